@@ -0,0 +1,98 @@
+package testutils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import testutils.annotation.Annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnnotationAssertionBenchmark {
+
+    @Benchmark
+    public boolean directClassAnnotation() {
+        return Annotated.class.getAnnotation(Marker.class) != null;
+    }
+
+    @Benchmark
+    public void assertClassAnnotation() {
+        Annotations.assertClassAnnotation(Annotated.class, Marker.class);
+    }
+
+    @Benchmark
+    public boolean directClassAnnotationParameter() {
+        return "class".equals(Annotated.class.getAnnotation(Marker.class).value());
+    }
+
+    @Benchmark
+    public void assertClassAnnotationParameter() {
+        Annotations.assertClassAnnotationParameter(Annotated.class, Marker.class, "value", "class");
+    }
+
+    @Benchmark
+    public boolean directFieldAnnotation() throws NoSuchFieldException {
+        return Annotated.class.getDeclaredField("field").getAnnotation(Marker.class) != null;
+    }
+
+    @Benchmark
+    public void assertFieldAnnotation() {
+        Annotations.assertFieldAnnotation(Annotated.class, "field", Marker.class);
+    }
+
+    @Benchmark
+    public boolean directFieldAnnotationParameter() throws NoSuchFieldException {
+        return "field".equals(Annotated.class.getDeclaredField("field").getAnnotation(Marker.class).value());
+    }
+
+    @Benchmark
+    public void assertFieldAnnotationParameter() {
+        Annotations.assertFieldAnnotationParameter(Annotated.class, "field", Marker.class, "value", "field");
+    }
+
+    @Benchmark
+    public boolean directMethodAnnotation() throws NoSuchMethodException {
+        return Annotated.class.getDeclaredMethod("method").getAnnotation(Marker.class) != null;
+    }
+
+    @Benchmark
+    public void assertMethodAnnotation() {
+        Annotations.assertMethodAnnotation(Annotated.class, "method", Marker.class);
+    }
+
+    @Benchmark
+    public boolean directMethodAnnotationParameter() throws NoSuchMethodException {
+        return "method".equals(Annotated.class.getDeclaredMethod("method").getAnnotation(Marker.class).value());
+    }
+
+    @Benchmark
+    public void assertMethodAnnotationParameter() {
+        Annotations.assertMethodAnnotationParameter(Annotated.class, "method", Marker.class, "value", "method");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+    @interface Marker {
+        String value();
+    }
+
+    @Marker("class")
+    static class Annotated {
+        @Marker("field")
+        String field;
+
+        @Marker("method")
+        void method() {
+
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package testutils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import testutils.reflection.Reflection;
+import testutils.reflection.ReflectionException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldAccessBenchmark {
+
+    private Shallow shallow;
+    private Deep deep;
+    private Nested nested;
+    private String value;
+
+    @Setup
+    public void setUp() {
+        shallow = new Shallow();
+        deep = new Deep();
+        nested = new Nested();
+        value = "value";
+    }
+
+    @Benchmark
+    public Object directShallowGet() {
+        return shallow.field;
+    }
+
+    @Benchmark
+    public Object reflectionShallowGet() throws ReflectionException {
+        return Reflection.getFieldValue(shallow, "field");
+    }
+
+    @Benchmark
+    public void directShallowSet() {
+        shallow.field = value;
+    }
+
+    @Benchmark
+    public void reflectionShallowSet() throws ReflectionException {
+        Reflection.setFieldValue(shallow, "field", value);
+    }
+
+    @Benchmark
+    public Object directDeepGet() {
+        return deep.rootField;
+    }
+
+    @Benchmark
+    public Object reflectionDeepGet() throws ReflectionException {
+        return Reflection.getFieldValue(deep, "rootField");
+    }
+
+    @Benchmark
+    public void directDeepSet() {
+        deep.rootField = value;
+    }
+
+    @Benchmark
+    public void reflectionDeepSet() throws ReflectionException {
+        Reflection.setFieldValue(deep, "rootField", value);
+    }
+
+    @Benchmark
+    public Object reflectionInheritedFieldMiss() {
+        try {
+            return Reflection.getFieldValue(deep, "missingField");
+        } catch (ReflectionException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object directStaticGet() {
+        return Static.field;
+    }
+
+    @Benchmark
+    public Object reflectionStaticGet() throws ReflectionException {
+        return Reflection.getStaticFieldValue(Static.class, "field");
+    }
+
+    @Benchmark
+    public void directStaticSet() {
+        Static.field = value;
+    }
+
+    @Benchmark
+    public void reflectionStaticSet() throws ReflectionException {
+        Reflection.setStaticFieldValue(Static.class, "field", value);
+    }
+
+    @Benchmark
+    public Object directPathGet() {
+        return nested.children[1].shallow.field;
+    }
+
+    @Benchmark
+    public Object reflectionPathGet() throws ReflectionException {
+        return Reflection.getPath(nested, "children[1].shallow.field");
+    }
+
+    static class Shallow {
+        String field = "value";
+    }
+
+    static class Root {
+        String rootField = "value";
+    }
+
+    static class Level1 extends Root {
+        String level1Field;
+    }
+
+    static class Level2 extends Level1 {
+        String level2Field;
+    }
+
+    static class Level3 extends Level2 {
+        String level3Field;
+    }
+
+    static class Deep extends Level3 {
+        String deepField;
+    }
+
+    static class Nested {
+        Nested[] children = {new Nested(null), new Nested(null)};
+        Shallow shallow = new Shallow();
+
+        Nested() {
+        }
+
+        Nested(Nested[] children) {
+            this.children = children;
+        }
+    }
+
+    static class Static {
+        static String field = "value";
+    }
+}
@@ -0,0 +1,38 @@
+package testutils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import testutils.reflection.Reflection;
+import testutils.reflection.ReflectionException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstanceCreationBenchmark {
+
+    @Benchmark
+    public Object directNew() {
+        return new Entity();
+    }
+
+    @Benchmark
+    public Object reflectionNewInstance() throws ReflectionException {
+        return Reflection.newInstance(Entity.class);
+    }
+
+    @Benchmark
+    public Object reflectionAllocate() throws ReflectionException {
+        return Reflection.allocate(Entity.class);
+    }
+
+    static class Entity {
+        String name;
+        long id;
+    }
+}
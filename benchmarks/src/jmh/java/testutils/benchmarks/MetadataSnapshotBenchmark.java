@@ -0,0 +1,72 @@
+package testutils.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import testutils.classpath.MetadataSnapshot;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetadataSnapshotBenchmark {
+
+    private static final byte[] METADATA = new byte[64];
+
+    private Path directory;
+    private MetadataSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("testutils-snapshot");
+        MetadataSnapshot recording = MetadataSnapshot.open(directory.resolve("metadata.snapshot"));
+        recording.record(Annotated.class, List.of(Marker.class), METADATA);
+        recording.save();
+        snapshot = MetadataSnapshot.open(directory.resolve("metadata.snapshot"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public ByteBuffer find() {
+        return snapshot.find(Annotated.class);
+    }
+
+    @Benchmark
+    public void record() {
+        snapshot.record(Annotated.class, List.of(Marker.class), METADATA);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marker {
+        String value();
+    }
+
+    @Marker("class")
+    public static class Annotated {
+        @Marker("field")
+        private String field;
+    }
+}
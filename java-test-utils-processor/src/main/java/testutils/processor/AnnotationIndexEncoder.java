@@ -0,0 +1,243 @@
+package testutils.processor;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
+import javax.lang.model.util.Types;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class AnnotationIndexEncoder {
+
+    private final Elements elements;
+    private final Types types;
+
+    AnnotationIndexEncoder(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    String binaryName(TypeElement type) {
+        return elements.getBinaryName(type).toString();
+    }
+
+    byte[] encode(TypeElement type) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        try {
+            writeAnnotations(output, type.getAnnotationMirrors());
+
+            List<VariableElement> fields = new ArrayList<>();
+            List<ExecutableElement> methods = new ArrayList<>();
+            for (Element enclosed : type.getEnclosedElements()) {
+                if (enclosed.getKind() == ElementKind.FIELD || enclosed.getKind() == ElementKind.ENUM_CONSTANT) {
+                    fields.add((VariableElement) enclosed);
+                } else if (enclosed.getKind() == ElementKind.METHOD) {
+                    methods.add((ExecutableElement) enclosed);
+                }
+            }
+
+            output.writeInt(fields.size());
+            for (VariableElement field : fields) {
+                output.writeUTF(field.getSimpleName().toString());
+                writeAnnotations(output, field.getAnnotationMirrors());
+            }
+
+            output.writeInt(methods.size());
+            for (ExecutableElement method : methods) {
+                output.writeUTF(method.getSimpleName().toString());
+                output.writeShort(method.getParameters().size());
+                for (VariableElement parameter : method.getParameters()) {
+                    output.writeUTF(className(types.erasure(parameter.asType())));
+                }
+                output.writeBoolean(isInheritable(type, method));
+                writeAnnotations(output, method.getAnnotationMirrors());
+            }
+
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static boolean isInheritable(TypeElement type, ExecutableElement method) {
+        return type.getKind() == ElementKind.INTERFACE || type.getKind() == ElementKind.ANNOTATION_TYPE
+                ? method.getModifiers().contains(Modifier.DEFAULT)
+                : !method.getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    private void writeAnnotations(DataOutputStream output, List<? extends AnnotationMirror> mirrors) throws IOException {
+        List<AnnotationMirror> runtimeAnnotations = new ArrayList<>();
+        for (AnnotationMirror mirror : mirrors) {
+            Retention retention = mirror.getAnnotationType().asElement().getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                runtimeAnnotations.add(mirror);
+            }
+        }
+
+        output.writeShort(runtimeAnnotations.size());
+        for (AnnotationMirror mirror : runtimeAnnotations) {
+            writeAnnotation(output, mirror);
+        }
+    }
+
+    private void writeAnnotation(DataOutputStream output, AnnotationMirror mirror) throws IOException {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = mirror.getElementValues();
+
+        output.writeUTF(binaryName((TypeElement) mirror.getAnnotationType().asElement()));
+        output.writeShort(values.size());
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : values.entrySet()) {
+            output.writeUTF(value.getKey().getSimpleName().toString());
+            writeValue(output, value.getValue());
+        }
+    }
+
+    private void writeValue(DataOutputStream output, AnnotationValue value) {
+        value.accept(new SimpleAnnotationValueVisitor9<Void, DataOutputStream>() {
+            @Override
+            public Void visitBoolean(boolean b, DataOutputStream output) {
+                return write(output, 'Z', () -> output.writeBoolean(b));
+            }
+
+            @Override
+            public Void visitByte(byte b, DataOutputStream output) {
+                return write(output, 'B', () -> output.writeByte(b));
+            }
+
+            @Override
+            public Void visitChar(char c, DataOutputStream output) {
+                return write(output, 'C', () -> output.writeChar(c));
+            }
+
+            @Override
+            public Void visitDouble(double d, DataOutputStream output) {
+                return write(output, 'D', () -> output.writeDouble(d));
+            }
+
+            @Override
+            public Void visitFloat(float f, DataOutputStream output) {
+                return write(output, 'F', () -> output.writeFloat(f));
+            }
+
+            @Override
+            public Void visitInt(int i, DataOutputStream output) {
+                return write(output, 'I', () -> output.writeInt(i));
+            }
+
+            @Override
+            public Void visitLong(long i, DataOutputStream output) {
+                return write(output, 'J', () -> output.writeLong(i));
+            }
+
+            @Override
+            public Void visitShort(short s, DataOutputStream output) {
+                return write(output, 'S', () -> output.writeShort(s));
+            }
+
+            @Override
+            public Void visitString(String s, DataOutputStream output) {
+                return write(output, 's', () -> output.writeUTF(s));
+            }
+
+            @Override
+            public Void visitType(TypeMirror t, DataOutputStream output) {
+                return write(output, 'c', () -> output.writeUTF(className(t)));
+            }
+
+            @Override
+            public Void visitEnumConstant(VariableElement c, DataOutputStream output) {
+                return write(output, 'e', () -> {
+                    output.writeUTF(binaryName((TypeElement) c.getEnclosingElement()));
+                    output.writeUTF(c.getSimpleName().toString());
+                });
+            }
+
+            @Override
+            public Void visitAnnotation(AnnotationMirror a, DataOutputStream output) {
+                return write(output, '@', () -> writeAnnotation(output, a));
+            }
+
+            @Override
+            public Void visitArray(List<? extends AnnotationValue> values, DataOutputStream output) {
+                return write(output, '[', () -> {
+                    output.writeShort(values.size());
+                    for (AnnotationValue element : values) {
+                        writeValue(output, element);
+                    }
+                });
+            }
+        }, output);
+    }
+
+    private static Void write(DataOutputStream output, char tag, ValueWriter writer) {
+        try {
+            output.writeByte(tag);
+            writer.write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    private String className(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) type).asElement());
+            default:
+                return type.getKind().name().toLowerCase();
+        }
+    }
+
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return "L" + binaryName((TypeElement) ((DeclaredType) type).asElement()) + ";";
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            default:
+                return type.toString();
+        }
+    }
+
+    private interface ValueWriter {
+        void write() throws IOException;
+    }
+}
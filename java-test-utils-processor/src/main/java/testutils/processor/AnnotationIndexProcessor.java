@@ -0,0 +1,80 @@
+package testutils.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@SupportedAnnotationTypes("*")
+public final class AnnotationIndexProcessor extends AbstractProcessor {
+
+    // Must stay in sync with testutils.annotation.AnnotationIndex, which reads this file at test time.
+    static final String RESOURCE = "META-INF/testutils/annotations.idx";
+    static final int MAGIC = 0x54554958;
+    static final int VERSION = 2;
+
+    private final Map<String, byte[]> types = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        AnnotationIndexEncoder encoder = new AnnotationIndexEncoder(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+
+        for (Element element : roundEnv.getRootElements()) {
+            collect(encoder, element);
+        }
+
+        if (roundEnv.processingOver() && !types.isEmpty()) {
+            write();
+        }
+
+        return false;
+    }
+
+    private void collect(AnnotationIndexEncoder encoder, Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+
+        TypeElement type = (TypeElement) element;
+        types.put(encoder.binaryName(type), encoder.encode(type));
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(encoder, enclosed);
+        }
+    }
+
+    private void write() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE);
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file.openOutputStream()))) {
+                output.writeInt(MAGIC);
+                output.writeShort(VERSION);
+                output.writeInt(types.size());
+
+                for (Map.Entry<String, byte[]> type : types.entrySet()) {
+                    output.writeUTF(type.getKey());
+                    output.write(type.getValue());
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to write annotation index: " + e.getMessage());
+        }
+    }
+}
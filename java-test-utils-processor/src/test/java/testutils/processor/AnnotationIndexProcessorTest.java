@@ -0,0 +1,115 @@
+package testutils.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testutils.annotation.Annotations;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnnotationIndexProcessorTest {
+
+    private static final String SOURCE = String.join("\n",
+            "package sample;",
+            "import java.lang.annotation.*;",
+            "@Retention(RetentionPolicy.RUNTIME) @interface Marker { String value() default \"test_value\"; ElementType type() default ElementType.TYPE; int[] numbers() default {1, 2}; }",
+            "@Retention(RetentionPolicy.CLASS) @interface Invisible {}",
+            "@Marker(type = ElementType.FIELD) @Invisible public class Dummy {",
+            "    @Marker(\"field_value\") String dummy;",
+            "    @Marker void dummyMethod() {}",
+            "    void dummyMethod(String value) {}",
+            "}");
+
+    @TempDir
+    Path output;
+
+    private Class<?> dummy;
+    private Class<?> marker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, null,
+                List.of("-d", output.toString()),
+                null,
+                List.of(new SourceFile("sample/Dummy.java", SOURCE)));
+        task.setProcessors(List.of(new AnnotationIndexProcessor()));
+
+        assertThat(task.call())
+                .isTrue();
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        dummy = classLoader.loadClass("sample.Dummy");
+        marker = classLoader.loadClass("sample.Marker");
+    }
+
+    @Test
+    void shouldWriteIndexHeader() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(output.resolve(AnnotationIndexProcessor.RESOURCE))) {
+            DataInputStream input = new DataInputStream(inputStream);
+
+            assertThat(input.readInt())
+                    .isEqualTo(AnnotationIndexProcessor.MAGIC);
+            assertThat(input.readUnsignedShort())
+                    .isEqualTo(AnnotationIndexProcessor.VERSION);
+            assertThat(input.readInt())
+                    .isEqualTo(3);
+        }
+    }
+
+    @Test
+    void shouldIndexOnlyRuntimeAnnotations() {
+        Annotations.assertClassAnnotation(dummy, marker);
+    }
+
+    @Test
+    void shouldIndexAttributeValues() {
+        Annotations.assertClassAnnotationParameter(dummy, marker, "value", "test_value");
+        Annotations.assertClassAnnotationParameter(dummy, marker, "type", ElementType.FIELD);
+        Annotations.assertFieldAnnotationParameter(dummy, "dummy", marker, "value", "field_value");
+        Annotations.assertMethodAnnotationParameter(dummy, "dummyMethod", marker, "numbers", new int[]{1, 2});
+    }
+
+    @Test
+    void shouldReportIndexedAttributeMismatch() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertClassAnnotationParameter(dummy, marker, "type", ElementType.METHOD)
+        );
+
+        assertThat(exception.getMessage())
+                .contains("Expected: METHOD and was FIELD for parameter type");
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String content;
+
+        SourceFile(String path, String content) {
+            super(URI.create("string:///" + path), JavaFileObject.Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
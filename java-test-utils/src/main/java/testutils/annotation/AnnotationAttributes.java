@@ -0,0 +1,192 @@
+package testutils.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public final class AnnotationAttributes {
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Annotation.class);
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class, "void", void.class);
+
+    private static final ClassValue<Map<String, Attribute>> ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected Map<String, Attribute> computeValue(Class<?> annotationType) {
+            Map<String, Attribute> attributes = new LinkedHashMap<>();
+            for (Method method : annotationType.getDeclaredMethods()) {
+                if (method.getParameterCount() == 0 && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                    attributes.put(method.getName(), new Attribute(reader(method), method.getReturnType(), method.getDefaultValue()));
+                }
+            }
+            return Collections.unmodifiableMap(attributes);
+        }
+    };
+
+    private AnnotationAttributes() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static MethodHandle find(Class<?> annotationType, String parameterName) {
+        Attribute attribute = ATTRIBUTES.get(annotationType).get(parameterName);
+        return attribute == null ? null : attribute.reader;
+    }
+
+    static Map<String, Object> read(Annotation annotation) {
+        Map<String, Attribute> attributes = ATTRIBUTES.get(annotation.annotationType());
+        Map<String, Object> values = new LinkedHashMap<>(attributes.size() * 2);
+        for (Map.Entry<String, Attribute> attribute : attributes.entrySet()) {
+            values.put(attribute.getKey(), read(attribute.getValue().reader, annotation));
+        }
+        return values;
+    }
+
+    static Map<String, Object> declared(Annotation annotation) {
+        Map<String, Attribute> attributes = ATTRIBUTES.get(annotation.annotationType());
+        Map<String, Object> values = new LinkedHashMap<>(attributes.size() * 2);
+        for (Map.Entry<String, Attribute> attribute : attributes.entrySet()) {
+            Object value = read(attribute.getValue().reader, annotation);
+            if (!Objects.deepEquals(value, attribute.getValue().defaultValue)) {
+                values.put(attribute.getKey(), value);
+            }
+        }
+        return values;
+    }
+
+    static Map<String, Object> resolve(Class<?> annotationType, Map<String, Object> declared, ClassLoader classLoader) {
+        Map<String, Attribute> attributes = ATTRIBUTES.get(annotationType);
+        Map<String, Object> values = new LinkedHashMap<>(attributes.size() * 2);
+        for (Map.Entry<String, Attribute> attribute : attributes.entrySet()) {
+            Object value = declared.get(attribute.getKey());
+            values.put(attribute.getKey(), value == null
+                    ? attribute.getValue().defaultValue
+                    : resolve(value, attribute.getValue().type, classLoader));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    public static Object read(MethodHandle reader, Annotation annotation) {
+        try {
+            return (Object) reader.invokeExact(annotation);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+    }
+
+    static boolean valueEquals(Object actual, Object expected) {
+        if (actual instanceof IndexedAnnotation) {
+            return expected instanceof Annotation && ((IndexedAnnotation) actual).matches((Annotation) expected);
+        }
+
+        if (actual instanceof IndexedAnnotation[]) {
+            IndexedAnnotation[] annotations = (IndexedAnnotation[]) actual;
+            if (!(expected instanceof Object[]) || ((Object[]) expected).length != annotations.length) {
+                return false;
+            }
+
+            for (int i = 0; i < annotations.length; i++) {
+                if (!valueEquals(annotations[i], ((Object[]) expected)[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return Objects.deepEquals(actual, expected);
+    }
+
+    static Class<?> load(String name, ClassLoader classLoader) {
+        Class<?> primitive = PRIMITIVES.get(name);
+        if (primitive != null) {
+            return primitive;
+        }
+
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    static String format(Object value) {
+        if (value != null && value.getClass().isArray()) {
+            Object[] elements = new Object[Array.getLength(value)];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = Array.get(value, i);
+            }
+            return Arrays.deepToString(elements);
+        }
+        return String.valueOf(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object resolve(Object value, Class<?> type, ClassLoader classLoader) {
+        if (value instanceof AnnotationIndex.EnumConstant && type.isEnum()) {
+            try {
+                return Enum.valueOf((Class) type, value.toString());
+            } catch (IllegalArgumentException e) {
+                return value;
+            }
+        }
+
+        if (value instanceof AnnotationIndex.TypeName && type == Class.class) {
+            Class<?> resolved = load(value.toString(), classLoader);
+            return resolved == null ? value : resolved;
+        }
+
+        if (value instanceof Object[] && type.isArray()) {
+            Object[] elements = (Object[]) value;
+            Class<?> componentType = type.getComponentType();
+            Object array = Array.newInstance(componentType.isAnnotation() ? IndexedAnnotation.class : componentType, elements.length);
+
+            for (int i = 0; i < elements.length; i++) {
+                Object element = resolve(elements[i], componentType, classLoader);
+                if (!(componentType.isAnnotation() ? IndexedAnnotation.class : wrap(componentType)).isInstance(element)) {
+                    return value;
+                }
+                Array.set(array, i, element);
+            }
+            return array;
+        }
+
+        return value;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static MethodHandle reader(Method method) {
+        method.trySetAccessible();
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(READER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static final class Attribute {
+
+        private final MethodHandle reader;
+        private final Class<?> type;
+        private final Object defaultValue;
+
+        private Attribute(MethodHandle reader, Class<?> type, Object defaultValue) {
+            this.reader = reader;
+            this.type = type;
+            this.defaultValue = defaultValue;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package testutils.annotation;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+final class AnnotationIndex {
+
+    static final String RESOURCE = "META-INF/testutils/annotations.idx";
+    static final int MAGIC = 0x54554958;
+    static final int VERSION = 2;
+
+    private static final String ENABLED_PROPERTY = "testutils.annotation.index";
+    private static final AnnotationIndex EMPTY = new AnnotationIndex(Collections.emptyMap());
+    private static final Map<ClassLoader, AnnotationIndex> INDEXES = new WeakHashMap<>();
+
+    private final Map<String, IndexedType> types;
+
+    private AnnotationIndex(Map<String, IndexedType> types) {
+        this.types = types;
+    }
+
+    static synchronized AnnotationIndex of(ClassLoader classLoader) {
+        if (classLoader == null || "false".equals(System.getProperty(ENABLED_PROPERTY))) {
+            return EMPTY;
+        }
+
+        return INDEXES.computeIfAbsent(classLoader, AnnotationIndex::load);
+    }
+
+    static AnnotationIndex load(ClassLoader classLoader) {
+        Map<String, IndexedType> types = new HashMap<>();
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (InputStream inputStream = resource.openStream()) {
+                    read(new DataInputStream(new BufferedInputStream(inputStream)), types, resource, classLoader);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read annotation index", e);
+        }
+
+        return types.isEmpty() ? EMPTY : new AnnotationIndex(types);
+    }
+
+    ClassMetadata find(Class<?> type) {
+        IndexedType indexedType = types.get(type.getName());
+        return indexedType == null ? null : indexedType.toClassMetadata(type);
+    }
+
+    private static void read(DataInputStream input, Map<String, IndexedType> types, URL resource, ClassLoader classLoader) throws IOException {
+        int magic = input.readInt();
+        int version = input.readUnsignedShort();
+        if (magic != MAGIC || version < 1 || version > VERSION) {
+            throw new IOException("Unsupported annotation index: " + resource);
+        }
+
+        int typeCount = input.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            String typeName = input.readUTF();
+            types.putIfAbsent(typeName, readType(input, version, classLoader));
+        }
+    }
+
+    static IndexedType readType(DataInputStream input, int version, ClassLoader classLoader) throws IOException {
+        List<AnnotationMetadata> annotations = readAnnotations(input, classLoader);
+
+        int fieldCount = input.readInt();
+        Map<String, List<AnnotationMetadata>> fields = new HashMap<>(fieldCount * 2);
+        for (int i = 0; i < fieldCount; i++) {
+            fields.put(input.readUTF(), readAnnotations(input, classLoader));
+        }
+
+        int methodCount = input.readInt();
+        List<IndexedMethod> methods = new ArrayList<>(methodCount);
+        for (int i = 0; i < methodCount; i++) {
+            String name = input.readUTF();
+            String[] parameterTypes = new String[input.readUnsignedShort()];
+            for (int j = 0; j < parameterTypes.length; j++) {
+                parameterTypes[j] = input.readUTF();
+            }
+            Boolean inheritable = version > 1 ? input.readBoolean() : null;
+            methods.add(new IndexedMethod(name, parameterTypes, inheritable, readAnnotations(input, classLoader)));
+        }
+
+        return new IndexedType(annotations, fields, methods);
+    }
+
+    static void writeType(DataOutputStream output, MemberMetadata classMetadata, Map<String, MemberMetadata> fields,
+                          Map<String, Map<String, MemberMetadata>> methods) throws IOException {
+        writeAnnotations(output, classMetadata);
+
+        output.writeInt(fields.size());
+        for (Map.Entry<String, MemberMetadata> field : fields.entrySet()) {
+            output.writeUTF(field.getKey());
+            writeAnnotations(output, field.getValue());
+        }
+
+        int methodCount = 0;
+        for (Map<String, MemberMetadata> overloads : methods.values()) {
+            methodCount += overloads.size();
+        }
+
+        output.writeInt(methodCount);
+        for (Map.Entry<String, Map<String, MemberMetadata>> overloads : methods.entrySet()) {
+            for (Map.Entry<String, MemberMetadata> method : overloads.getValue().entrySet()) {
+                String signature = method.getKey();
+                String[] parameterTypes = signature.length() == 2 ? new String[0] : signature.substring(1, signature.length() - 1).split(",");
+
+                output.writeUTF(overloads.getKey());
+                output.writeShort(parameterTypes.length);
+                for (String parameterType : parameterTypes) {
+                    output.writeUTF(parameterType);
+                }
+                output.writeBoolean(method.getValue().isInheritable());
+                writeAnnotations(output, method.getValue());
+            }
+        }
+    }
+
+    private static List<AnnotationMetadata> readAnnotations(DataInputStream input, ClassLoader classLoader) throws IOException {
+        int count = input.readUnsignedShort();
+        List<AnnotationMetadata> annotations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            annotations.add(readAnnotation(input, classLoader));
+        }
+        return annotations;
+    }
+
+    private static IndexedAnnotation readAnnotation(DataInputStream input, ClassLoader classLoader) throws IOException {
+        String typeName = input.readUTF();
+        int attributeCount = input.readUnsignedShort();
+        Map<String, Object> attributes = new LinkedHashMap<>(attributeCount * 2);
+        for (int i = 0; i < attributeCount; i++) {
+            attributes.put(input.readUTF(), readValue(input, classLoader));
+        }
+        return new IndexedAnnotation(typeName, attributes, classLoader);
+    }
+
+    private static Object readValue(DataInputStream input, ClassLoader classLoader) throws IOException {
+        char tag = (char) input.readUnsignedByte();
+        switch (tag) {
+            case 's':
+                return input.readUTF();
+            case 'Z':
+                return input.readBoolean();
+            case 'B':
+                return input.readByte();
+            case 'C':
+                return input.readChar();
+            case 'S':
+                return input.readShort();
+            case 'I':
+                return input.readInt();
+            case 'J':
+                return input.readLong();
+            case 'F':
+                return input.readFloat();
+            case 'D':
+                return input.readDouble();
+            case 'e':
+                return new EnumConstant(input.readUTF(), input.readUTF());
+            case 'c':
+                return new TypeName(input.readUTF());
+            case '@':
+                return readAnnotation(input, classLoader);
+            case '[':
+                Object[] values = new Object[input.readUnsignedShort()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = readValue(input, classLoader);
+                }
+                return values;
+            default:
+                throw new IOException("Unknown annotation value tag: " + tag);
+        }
+    }
+
+    private static void writeAnnotations(DataOutputStream output, MemberMetadata member) throws IOException {
+        Collection<AnnotationMetadata> annotations = member.getAnnotations();
+        output.writeShort(annotations.size());
+        for (AnnotationMetadata annotation : annotations) {
+            writeAnnotation(output, annotation.getTypeName(), annotation.getDeclaredAttributes());
+        }
+    }
+
+    private static void writeAnnotation(DataOutputStream output, String typeName, Map<String, Object> attributes) throws IOException {
+        output.writeUTF(typeName);
+        output.writeShort(attributes.size());
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            output.writeUTF(attribute.getKey());
+            writeValue(output, attribute.getValue());
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value instanceof String) {
+            output.writeByte('s');
+            output.writeUTF((String) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte('Z');
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte('B');
+            output.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            output.writeByte('C');
+            output.writeChar((Character) value);
+        } else if (value instanceof Short) {
+            output.writeByte('S');
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte('I');
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte('J');
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte('F');
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte('D');
+            output.writeDouble((Double) value);
+        } else if (value instanceof Enum) {
+            output.writeByte('e');
+            output.writeUTF(((Enum<?>) value).getDeclaringClass().getName());
+            output.writeUTF(((Enum<?>) value).name());
+        } else if (value instanceof EnumConstant) {
+            output.writeByte('e');
+            output.writeUTF(((EnumConstant) value).typeName);
+            output.writeUTF(((EnumConstant) value).name);
+        } else if (value instanceof Class) {
+            output.writeByte('c');
+            output.writeUTF(((Class<?>) value).getName());
+        } else if (value instanceof TypeName) {
+            output.writeByte('c');
+            output.writeUTF(((TypeName) value).name);
+        } else if (value instanceof Annotation) {
+            output.writeByte('@');
+            writeAnnotation(output, ((Annotation) value).annotationType().getName(), AnnotationAttributes.declared((Annotation) value));
+        } else if (value instanceof IndexedAnnotation) {
+            output.writeByte('@');
+            writeAnnotation(output, ((IndexedAnnotation) value).getTypeName(), ((IndexedAnnotation) value).getDeclaredAttributes());
+        } else if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            output.writeByte('[');
+            output.writeShort(length);
+            for (int i = 0; i < length; i++) {
+                writeValue(output, Array.get(value, i));
+            }
+        } else {
+            throw new IOException("Unsupported annotation value: " + value);
+        }
+    }
+
+    static final class IndexedType {
+
+        private final List<AnnotationMetadata> annotations;
+        private final Map<String, List<AnnotationMetadata>> fields;
+        private final List<IndexedMethod> methods;
+
+        private IndexedType(List<AnnotationMetadata> annotations, Map<String, List<AnnotationMetadata>> fields, List<IndexedMethod> methods) {
+            this.annotations = annotations;
+            this.fields = fields;
+            this.methods = methods;
+        }
+
+        ClassMetadata toClassMetadata(Class<?> type) {
+            Set<String> inheritableMethods = null;
+            Map<String, MemberMetadata> fieldMetadata = new HashMap<>();
+            for (Map.Entry<String, List<AnnotationMetadata>> field : fields.entrySet()) {
+                fieldMetadata.put(field.getKey(), new MemberMetadata(field.getKey(), field.getValue()));
+            }
+
+            Map<String, Map<String, MemberMetadata>> methodMetadata = new HashMap<>();
+            for (IndexedMethod method : methods) {
+                String signature = "(" + String.join(",", method.parameterTypes) + ")";
+                Boolean inheritable = method.inheritable;
+                if (inheritable == null) {
+                    if (inheritableMethods == null) {
+                        inheritableMethods = ClassMetadata.inheritableMethods(type);
+                    }
+                    inheritable = inheritableMethods.contains(method.name + signature);
+                }
+
+                methodMetadata.computeIfAbsent(method.name, name -> new HashMap<>())
+                        .put(signature, new MemberMetadata(method.name, method.annotations, inheritable));
+            }
+
+            return new ClassMetadata(type.getName(), new MemberMetadata(type.toString(), annotations), fieldMetadata, methodMetadata);
+        }
+    }
+
+    private static final class IndexedMethod {
+
+        private final String name;
+        private final String[] parameterTypes;
+        private final Boolean inheritable;
+        private final List<AnnotationMetadata> annotations;
+
+        private IndexedMethod(String name, String[] parameterTypes, Boolean inheritable, List<AnnotationMetadata> annotations) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.inheritable = inheritable;
+            this.annotations = annotations;
+        }
+    }
+
+    static final class EnumConstant {
+
+        private final String typeName;
+        private final String name;
+
+        EnumConstant(String typeName, String name) {
+            this.typeName = typeName;
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static final class TypeName {
+
+        private final String name;
+
+        TypeName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
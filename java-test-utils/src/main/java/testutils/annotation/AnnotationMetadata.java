@@ -0,0 +1,18 @@
+package testutils.annotation;
+
+import java.util.Map;
+
+interface AnnotationMetadata {
+
+    String getTypeName();
+
+    Map<String, Object> getDeclaredAttributes();
+
+    boolean isInherited();
+
+    boolean hasAttribute(String attributeName);
+
+    Object getAttribute(String attributeName);
+
+    boolean isAttributeEqual(String attributeName, Object expectedValue);
+}
@@ -0,0 +1,27 @@
+package testutils.annotation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("testutils.AnnotationScan")
+@Label("Test Utils Annotation Scan")
+@Description("Collection of the annotation metadata of a class, from the index, the metadata snapshot or through reflection")
+@Category({"java-test-utils", "Annotations"})
+@Enabled(false)
+@StackTrace(false)
+final class AnnotationScanEvent extends Event {
+
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Indexed")
+    boolean indexed;
+
+    @Label("Cached")
+    boolean cached;
+}
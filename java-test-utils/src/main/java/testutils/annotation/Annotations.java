@@ -1,11 +1,18 @@
 package testutils.annotation;
 
+import testutils.classpath.ClassFile;
+import testutils.classpath.ClassPathScanner;
+import testutils.metrics.Metrics;
+import testutils.metrics.Operation;
+import testutils.metrics.Timing;
+
+import java.io.IOException;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public final class Annotations {
 
@@ -13,122 +20,306 @@ public final class Annotations {
         throw new IllegalStateException("Utility class");
     }
 
-    private static void assertAnnotations(String fieldOrClass, List<Annotation> actualAnnotations, List<Class<?>> expectedAnnotation, String parameterName, Object parameterValue) {
-        if (expectedAnnotation.size() != actualAnnotations.size()) {
-            throw new AssertionError(
-                    String.format("%s: Expected %d annotations, but found %d", fieldOrClass, expectedAnnotation.size(), actualAnnotations.size())
-            );
+    static void assertAnnotations(MemberMetadata actualAnnotations, Class<?>[] expectedAnnotation, String parameterName, Object parameterValue) {
+        assertAnnotationCount(actualAnnotations, expectedAnnotation.length);
+
+        for (Class<?> clazz : expectedAnnotation) {
+            assertAnnotation(actualAnnotations, clazz, parameterName, parameterValue);
         }
-        expectedAnnotation.forEach(clazz -> {
-            List<Annotation> annotations = actualAnnotations.stream()
-                    .filter(annotation -> annotation.annotationType().isAssignableFrom(clazz))
-                    .collect(Collectors.toList());
+    }
 
-            if (annotations.isEmpty()) {
-                throw new AssertionError(String.format("No annotation found for %s", clazz.getName()));
-            }
+    static void assertAnnotationParameters(MemberMetadata actualAnnotations, Class<?> expectedAnnotation, Map<String, ?> expectedParameters) {
+        assertAnnotationCount(actualAnnotations, 1);
+        AnnotationMetadata annotation = assertAnnotation(actualAnnotations, expectedAnnotation, null, null);
+        List<String> failures = null;
 
-            if (parameterName != null) {
+        for (Map.Entry<String, ?> expectedParameter : expectedParameters.entrySet()) {
+            String parameterName = expectedParameter.getKey();
+            Object parameterValue = expectedParameter.getValue();
+            String failure = null;
 
-                if (parameterName.isEmpty()) {
-                    throw new AssertionError(String.format("Parameter name not allowed", parameterName));
+            if (parameterName == null || parameterName.isEmpty()) {
+                failure = "Parameter name not allowed";
+            } else if (!annotation.hasAttribute(parameterName)) {
+                failure = String.format("No parameter %s found", parameterName);
+            } else if (!annotation.isAttributeEqual(parameterName, parameterValue)) {
+                failure = parameterMismatch(annotation, parameterName, parameterValue);
+            }
+
+            if (failure != null) {
+                if (failures == null) {
+                    failures = new ArrayList<>();
                 }
+                failures.add(failure);
+            }
+        }
 
-                annotations.forEach(annotation -> {
+        if (failures != null) {
+            throw new AssertionError(String.format("%s: %s", actualAnnotations.getName(), String.join(", ", failures)));
+        }
+    }
 
-                    List<Method> methods = Arrays.asList(annotation.annotationType().getDeclaredMethods()).stream()
-                            .filter(method -> method.getName().equals(parameterName))
-                            .collect(Collectors.toList());
+    private static void assertAnnotationCount(MemberMetadata actualAnnotations, int expectedCount) {
+        if (expectedCount != actualAnnotations.getAnnotationCount()) {
+            throw new AssertionError(
+                    String.format("%s: Expected %d annotations, but found %d", actualAnnotations.getName(), expectedCount, actualAnnotations.getAnnotationCount())
+            );
+        }
+    }
 
-                    if (methods.isEmpty()) {
-                        throw new AssertionError(String.format("No parameter %s found", parameterName));
-                    }
+    static AnnotationMetadata assertAnnotation(MemberMetadata actualAnnotations, Class<?> expectedAnnotation, String parameterName, Object parameterValue) {
+        AnnotationMetadata annotation = actualAnnotations.getAnnotation(expectedAnnotation);
 
-                    methods.stream().forEach(method -> {
+        if (annotation == null) {
+            throw new AssertionError(String.format("No annotation found for %s", expectedAnnotation.getName()));
+        }
 
-                        Object result;
+        if (parameterName != null) {
 
-                        try {
-                            result = method.invoke(annotation, (Object[]) null);
-                        } catch (IllegalAccessException | InvocationTargetException e) {
-                            throw new AssertionError(e);
-                        }
+            if (parameterName.isEmpty()) {
+                throw new AssertionError("Parameter name not allowed");
+            }
 
-                        if (!result.equals(parameterValue)) {
-                            throw new AssertionError(String.format("Expected: %s and was %s for parameter %s", parameterValue, result, parameterName));
-                        }
+            if (!annotation.hasAttribute(parameterName)) {
+                throw new AssertionError(String.format("No parameter %s found", parameterName));
+            }
 
-                    });
-                });
+            if (!annotation.isAttributeEqual(parameterName, parameterValue)) {
+                throw new AssertionError(parameterMismatch(annotation, parameterName, parameterValue));
             }
+        }
+
+        return annotation;
+    }
+
+    private static void assertAnnotationParameter(MemberMetadata actualAnnotations, Class<?> expectedAnnotation, String parameterName, Object parameterValue) {
+        assertAnnotationCount(actualAnnotations, 1);
+        assertAnnotation(actualAnnotations, expectedAnnotation, parameterName, parameterValue);
+    }
 
-        });
+    private static String parameterMismatch(AnnotationMetadata annotation, String parameterName, Object parameterValue) {
+        return String.format("Expected: %s and was %s for parameter %s", AnnotationAttributes.format(parameterValue), AnnotationAttributes.format(annotation.getAttribute(parameterName)), parameterName);
+    }
+
+    public static ClassAnnotationAssertion forClass(Class<?> classUnderTest) {
+        return new ClassAnnotationAssertion(classUnderTest);
     }
 
     public static void assertClassAnnotation(Class<?> classUnderTest, Class<?>... expectedAnnotation) {
-        assertAnnotations(
-                classUnderTest.toString(),
-                Arrays.asList(classUnderTest.getAnnotations()),
-                Arrays.asList(expectedAnnotation),
-                null, null);
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotations(ClassMetadata.of(classUnderTest).getClassMetadata(), expectedAnnotation, null, null);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_CLASS_ANNOTATION, timing, classUnderTest, null, e);
+        }
+        Metrics.record(Operation.ASSERT_CLASS_ANNOTATION, timing, classUnderTest, null);
     }
 
     public static void assertFieldAnnotation(Class<?> classUnderTest, String fieldUnderTest, Class<?>... expectedAnnotation) {
+        Timing timing = Metrics.start();
         try {
-            assertAnnotations(
-                    fieldUnderTest,
-                    Arrays.asList(classUnderTest.getDeclaredField(fieldUnderTest).getAnnotations()),
-                    Arrays.asList(expectedAnnotation),
-                    null, null);
-        } catch (NoSuchFieldException e) {
-            throw new AssertionError(e);
+            assertAnnotations(ClassMetadata.of(classUnderTest).getField(fieldUnderTest), expectedAnnotation, null, null);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_FIELD_ANNOTATION, timing, classUnderTest, fieldUnderTest, e);
         }
+        Metrics.record(Operation.ASSERT_FIELD_ANNOTATION, timing, classUnderTest, fieldUnderTest);
     }
 
     public static void assertMethodAnnotation(Class<?> classUnderTest, String methodUnderTest, Class<?>... expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotations(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest), expectedAnnotation, null, null);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION, timing, classUnderTest, methodUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION, timing, classUnderTest, methodUnderTest);
+    }
+
+    public static void assertMethodAnnotation(Class<?> classUnderTest, String methodUnderTest, Class<?>[] parameterTypes, Class<?>... expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotations(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest, parameterTypes), expectedAnnotation, null, null);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION, timing, classUnderTest, methodUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION, timing, classUnderTest, methodUnderTest);
+    }
+
+    public static void assertMethodAnnotation(Class<?> classUnderTest, String methodUnderTest, String methodDescriptor, Class<?>... expectedAnnotation) {
+        Timing timing = Metrics.start();
         try {
-            assertAnnotations(
-                    methodUnderTest,
-                    Arrays.asList(classUnderTest.getDeclaredMethod(methodUnderTest).getAnnotations()),
-                    Arrays.asList(expectedAnnotation),
-                    null, null);
-        } catch (NoSuchMethodException e) {
-            throw new AssertionError(e);
+            assertAnnotations(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest, methodDescriptor), expectedAnnotation, null, null);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION, timing, classUnderTest, methodUnderTest, e);
         }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION, timing, classUnderTest, methodUnderTest);
     }
 
     public static void assertClassAnnotationParameter(Class<?> classUnderTest, Class<?> expectedAnnotation, String parameterName, Object expectedParameterValue) {
-        assertAnnotations(
-                classUnderTest.toString(),
-                Arrays.asList(classUnderTest.getAnnotations()),
-                Arrays.asList(expectedAnnotation),
-                parameterName, expectedParameterValue);
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameter(ClassMetadata.of(classUnderTest).getClassMetadata(), expectedAnnotation, parameterName, expectedParameterValue);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_CLASS_ANNOTATION_PARAMETER, timing, classUnderTest, null, e);
+        }
+        Metrics.record(Operation.ASSERT_CLASS_ANNOTATION_PARAMETER, timing, classUnderTest, null);
     }
 
     public static void assertMethodAnnotationParameter(Class<?> classUnderTest, String methodUnderTest, Class<?> expectedAnnotation, String parameterName, Object expectedParameterValue) {
+        Timing timing = Metrics.start();
         try {
-            assertAnnotations(
-                    methodUnderTest,
-                    Arrays.asList(classUnderTest.getDeclaredMethod(methodUnderTest).getAnnotations()),
-                    Arrays.asList(expectedAnnotation),
-                    parameterName,
-                    expectedParameterValue
-            );
-        } catch (NoSuchMethodException e) {
-            throw new AssertionError(e);
+            assertAnnotationParameter(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest), expectedAnnotation, parameterName, expectedParameterValue);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION_PARAMETER, timing, classUnderTest, methodUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION_PARAMETER, timing, classUnderTest, methodUnderTest);
+    }
+
+    public static void assertMethodAnnotationParameter(Class<?> classUnderTest, String methodUnderTest, Class<?>[] parameterTypes, Class<?> expectedAnnotation, String parameterName, Object expectedParameterValue) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameter(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest, parameterTypes), expectedAnnotation, parameterName, expectedParameterValue);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION_PARAMETER, timing, classUnderTest, methodUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION_PARAMETER, timing, classUnderTest, methodUnderTest);
+    }
+
+    public static void assertMethodAnnotationParameter(Class<?> classUnderTest, String methodUnderTest, String methodDescriptor, Class<?> expectedAnnotation, String parameterName, Object expectedParameterValue) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameter(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest, methodDescriptor), expectedAnnotation, parameterName, expectedParameterValue);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION_PARAMETER, timing, classUnderTest, methodUnderTest, e);
         }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION_PARAMETER, timing, classUnderTest, methodUnderTest);
     }
 
     public static void assertFieldAnnotationParameter(Class<?> classUnderTest, String fieldUnderTest, Class<?> expectedAnnotation, String parameterName, Object expectedParameterValue) {
+        Timing timing = Metrics.start();
         try {
-            assertAnnotations(
-                    fieldUnderTest,
-                    Arrays.asList(classUnderTest.getDeclaredField(fieldUnderTest).getAnnotations()),
-                    Arrays.asList(expectedAnnotation),
-                    parameterName,
-                    expectedParameterValue);
-        } catch (NoSuchFieldException e) {
-            throw new AssertionError(e);
+            assertAnnotationParameter(ClassMetadata.of(classUnderTest).getField(fieldUnderTest), expectedAnnotation, parameterName, expectedParameterValue);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_FIELD_ANNOTATION_PARAMETER, timing, classUnderTest, fieldUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_FIELD_ANNOTATION_PARAMETER, timing, classUnderTest, fieldUnderTest);
+    }
+
+    public static void assertClassAnnotationParameters(Class<?> classUnderTest, Class<?> expectedAnnotation, Map<String, ?> expectedParameters) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameters(ClassMetadata.of(classUnderTest).getClassMetadata(), expectedAnnotation, expectedParameters);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_CLASS_ANNOTATION_PARAMETERS, timing, classUnderTest, null, e);
+        }
+        Metrics.record(Operation.ASSERT_CLASS_ANNOTATION_PARAMETERS, timing, classUnderTest, null);
+    }
+
+    public static void assertClassAnnotationParameters(Class<?> classUnderTest, Annotation expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameters(ClassMetadata.of(classUnderTest).getClassMetadata(), expectedAnnotation.annotationType(), AnnotationAttributes.read(expectedAnnotation));
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_CLASS_ANNOTATION_PARAMETERS, timing, classUnderTest, null, e);
+        }
+        Metrics.record(Operation.ASSERT_CLASS_ANNOTATION_PARAMETERS, timing, classUnderTest, null);
+    }
+
+    public static void assertFieldAnnotationParameters(Class<?> classUnderTest, String fieldUnderTest, Class<?> expectedAnnotation, Map<String, ?> expectedParameters) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameters(ClassMetadata.of(classUnderTest).getField(fieldUnderTest), expectedAnnotation, expectedParameters);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_FIELD_ANNOTATION_PARAMETERS, timing, classUnderTest, fieldUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_FIELD_ANNOTATION_PARAMETERS, timing, classUnderTest, fieldUnderTest);
+    }
+
+    public static void assertFieldAnnotationParameters(Class<?> classUnderTest, String fieldUnderTest, Annotation expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameters(ClassMetadata.of(classUnderTest).getField(fieldUnderTest), expectedAnnotation.annotationType(), AnnotationAttributes.read(expectedAnnotation));
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_FIELD_ANNOTATION_PARAMETERS, timing, classUnderTest, fieldUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_FIELD_ANNOTATION_PARAMETERS, timing, classUnderTest, fieldUnderTest);
+    }
+
+    public static void assertMethodAnnotationParameters(Class<?> classUnderTest, String methodUnderTest, Class<?> expectedAnnotation, Map<String, ?> expectedParameters) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameters(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest), expectedAnnotation, expectedParameters);
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION_PARAMETERS, timing, classUnderTest, methodUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION_PARAMETERS, timing, classUnderTest, methodUnderTest);
+    }
+
+    public static void assertMethodAnnotationParameters(Class<?> classUnderTest, String methodUnderTest, Annotation expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertAnnotationParameters(ClassMetadata.of(classUnderTest).getMethod(methodUnderTest), expectedAnnotation.annotationType(), AnnotationAttributes.read(expectedAnnotation));
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_METHOD_ANNOTATION_PARAMETERS, timing, classUnderTest, methodUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_METHOD_ANNOTATION_PARAMETERS, timing, classUnderTest, methodUnderTest);
+    }
+
+    public static void assertPackageAnnotation(String packageUnderTest, Class<?>... expectedAnnotation) {
+        assertPackageAnnotation(packageUnderTest, false, expectedAnnotation);
+    }
+
+    public static void assertPackageAnnotation(String packageUnderTest, boolean recursive, Class<?>... expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertClassFilesAnnotations(packageUnderTest, ClassPathScanner.scanPackage(packageUnderTest, recursive), expectedAnnotation);
+        } catch (IOException e) {
+            throw Metrics.failed(Operation.ASSERT_PACKAGE_ANNOTATION, timing, null, packageUnderTest, new AssertionError(e));
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_PACKAGE_ANNOTATION, timing, null, packageUnderTest, e);
+        }
+        Metrics.record(Operation.ASSERT_PACKAGE_ANNOTATION, timing, null, packageUnderTest);
+    }
+
+    public static void assertJarAnnotation(Path jarUnderTest, Class<?>... expectedAnnotation) {
+        Timing timing = Metrics.start();
+        try {
+            assertClassFilesAnnotations(jarUnderTest.toString(), ClassPathScanner.scanJar(jarUnderTest), expectedAnnotation);
+        } catch (IOException e) {
+            throw Metrics.failed(Operation.ASSERT_JAR_ANNOTATION, timing, null, jarUnderTest.toString(), new AssertionError(e));
+        } catch (AssertionError e) {
+            throw Metrics.failed(Operation.ASSERT_JAR_ANNOTATION, timing, null, jarUnderTest.toString(), e);
+        }
+        Metrics.record(Operation.ASSERT_JAR_ANNOTATION, timing, null, jarUnderTest.toString());
+    }
+
+    public static void preload(Class<?>... classesUnderTest) {
+        for (Class<?> classUnderTest : classesUnderTest) {
+            ClassMetadata.of(classUnderTest);
+        }
+    }
+
+    private static void assertClassFilesAnnotations(String source, List<ClassFile> classFiles, Class<?>[] expectedAnnotation) {
+        if (classFiles.isEmpty()) {
+            throw new AssertionError(String.format("No classes found in %s", source));
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (ClassFile classFile : classFiles) {
+            if (classFile.isSynthetic() || classFile.isModuleOrPackageInfo() || classFile.isAnonymousOrLocal()) {
+                continue;
+            }
+
+            for (Class<?> clazz : expectedAnnotation) {
+                if (!classFile.hasAnnotation(clazz)) {
+                    failures.add(String.format("No annotation found for %s in %s", clazz.getName(), classFile.getName()));
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            Collections.sort(failures);
+            throw new AssertionError(String.format("%s: %d annotation assertions failed%n%s", source, failures.size(), String.join(System.lineSeparator(), failures)));
         }
     }
 }
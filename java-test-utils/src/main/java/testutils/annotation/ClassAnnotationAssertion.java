@@ -0,0 +1,141 @@
+package testutils.annotation;
+
+import testutils.metrics.Metrics;
+import testutils.metrics.Operation;
+import testutils.metrics.Timing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ClassAnnotationAssertion {
+
+    private final Class<?> classUnderTest;
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    ClassAnnotationAssertion(Class<?> classUnderTest) {
+        this.classUnderTest = classUnderTest;
+    }
+
+    public ClassAnnotationAssertion annotation(Class<?>... expectedAnnotation) {
+        expectations.add(new Expectation(ElementKind.CLASS, null, null, expectedAnnotation));
+        return this;
+    }
+
+    public ClassAnnotationAssertion field(String fieldUnderTest, Class<?>... expectedAnnotation) {
+        expectations.add(new Expectation(ElementKind.FIELD, fieldUnderTest, null, expectedAnnotation));
+        return this;
+    }
+
+    public ClassAnnotationAssertion method(String methodUnderTest, Class<?>... expectedAnnotation) {
+        expectations.add(new Expectation(ElementKind.METHOD, methodUnderTest, null, expectedAnnotation));
+        return this;
+    }
+
+    public ClassAnnotationAssertion method(String methodUnderTest, Class<?>[] parameterTypes, Class<?>... expectedAnnotation) {
+        expectations.add(new Expectation(ElementKind.METHOD, methodUnderTest, parameterTypes, expectedAnnotation));
+        return this;
+    }
+
+    public ClassAnnotationAssertion param(String parameterName, Object expectedParameterValue) {
+        if (expectations.isEmpty()) {
+            throw new IllegalStateException("No annotation expectation to add the parameter to");
+        }
+
+        Expectation expectation = expectations.get(expectations.size() - 1);
+        if (expectation.expectedAnnotation.length == 0) {
+            throw new IllegalStateException("No annotation expectation to add the parameter to");
+        }
+
+        Class<?> annotationType = expectation.expectedAnnotation[expectation.expectedAnnotation.length - 1];
+        expectation.parameters.add(new Parameter(annotationType, parameterName, expectedParameterValue));
+        return this;
+    }
+
+    public void verify() {
+        Timing timing = Metrics.start();
+        ClassMetadata metadata = ClassMetadata.of(classUnderTest);
+        List<AssertionError> failures = new ArrayList<>();
+
+        for (Expectation expectation : expectations) {
+            MemberMetadata member;
+            try {
+                member = expectation.resolve(metadata);
+            } catch (AssertionError e) {
+                failures.add(e);
+                continue;
+            }
+
+            try {
+                Annotations.assertAnnotations(member, expectation.expectedAnnotation, null, null);
+            } catch (AssertionError e) {
+                failures.add(e);
+                continue;
+            }
+
+            for (Parameter parameter : expectation.parameters) {
+                try {
+                    Annotations.assertAnnotation(member, parameter.annotationType, parameter.name, parameter.value);
+                } catch (AssertionError e) {
+                    failures.add(e);
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            StringBuilder message = new StringBuilder(String.format("%s: %d annotation assertions failed", classUnderTest, failures.size()));
+            for (AssertionError failure : failures) {
+                message.append(System.lineSeparator()).append(failure.getMessage());
+            }
+
+            AssertionError error = new AssertionError(message.toString());
+            failures.forEach(error::addSuppressed);
+            throw Metrics.failed(Operation.VERIFY_CLASS_ANNOTATIONS, timing, classUnderTest, null, error);
+        }
+
+        Metrics.record(Operation.VERIFY_CLASS_ANNOTATIONS, timing, classUnderTest, null);
+    }
+
+    private enum ElementKind {
+        CLASS, FIELD, METHOD
+    }
+
+    private static final class Expectation {
+
+        private final ElementKind kind;
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final Class<?>[] expectedAnnotation;
+        private final List<Parameter> parameters = new ArrayList<>();
+
+        private Expectation(ElementKind kind, String name, Class<?>[] parameterTypes, Class<?>[] expectedAnnotation) {
+            this.kind = kind;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.expectedAnnotation = expectedAnnotation;
+        }
+
+        private MemberMetadata resolve(ClassMetadata metadata) {
+            switch (kind) {
+                case FIELD:
+                    return metadata.getField(name);
+                case METHOD:
+                    return parameterTypes == null ? metadata.getMethod(name) : metadata.getMethod(name, parameterTypes);
+                default:
+                    return metadata.getClassMetadata();
+            }
+        }
+    }
+
+    private static final class Parameter {
+
+        private final Class<?> annotationType;
+        private final String name;
+        private final Object value;
+
+        private Parameter(Class<?> annotationType, String name, Object value) {
+            this.annotationType = annotationType;
+            this.name = name;
+            this.value = value;
+        }
+    }
+}
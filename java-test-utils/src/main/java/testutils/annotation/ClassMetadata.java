@@ -0,0 +1,413 @@
+package testutils.annotation;
+
+import testutils.classpath.MetadataSnapshot;
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class ClassMetadata {
+
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            Metrics.cacheMiss(Cache.ANNOTATION_METADATA);
+            AnnotationScanEvent event = new AnnotationScanEvent();
+            event.begin();
+
+            MetadataSnapshot snapshot = MetadataSnapshot.shared();
+            ClassMetadata indexed = AnnotationIndex.of(type.getClassLoader()).find(type);
+            ClassMetadata cached = indexed == null ? fromSnapshot(snapshot, type) : null;
+            ClassMetadata declared = indexed != null ? indexed : cached;
+
+            if (declared == null) {
+                declared = reflect(type);
+                declared.toSnapshot(snapshot, type);
+            }
+
+            ClassMetadata metadata = declared.inherit(type);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = type;
+                event.indexed = indexed != null;
+                event.cached = cached != null;
+                event.commit();
+            }
+
+            return metadata;
+        }
+    };
+
+    private final String typeName;
+    private final MemberMetadata classMetadata;
+    private final Map<String, MemberMetadata> fields;
+    private final Map<String, Map<String, MemberMetadata>> methods;
+    private final Map<String, Map<String, MemberMetadata>> inheritableMethods;
+    private final Map<String, Overloads> declaredOverloads;
+    private final Map<String, Overloads> overloads;
+    private final ConcurrentMap<String, String> descriptorSignatures = new ConcurrentHashMap<>();
+
+    ClassMetadata(String typeName, MemberMetadata classMetadata, Map<String, MemberMetadata> fields, Map<String, Map<String, MemberMetadata>> methods) {
+        this(typeName, classMetadata, fields, methods, methods, Collections.emptyMap());
+    }
+
+    private ClassMetadata(String typeName, MemberMetadata classMetadata, Map<String, MemberMetadata> fields, Map<String, Map<String, MemberMetadata>> methods,
+                          Map<String, Map<String, MemberMetadata>> allMethods, Map<String, Map<String, MemberMetadata>> inheritableMethods) {
+        this.typeName = typeName;
+        this.classMetadata = classMetadata;
+        this.fields = Collections.unmodifiableMap(fields);
+        this.methods = Collections.unmodifiableMap(methods);
+        this.inheritableMethods = Collections.unmodifiableMap(inheritableMethods);
+        this.declaredOverloads = overloads(methods);
+        this.overloads = allMethods == methods ? declaredOverloads : overloads(allMethods);
+    }
+
+    private static Map<String, Overloads> overloads(Map<String, Map<String, MemberMetadata>> methods) {
+        Map<String, Overloads> overloads = new HashMap<>();
+        methods.forEach((name, signatures) -> overloads.put(name, new Overloads(signatures)));
+        return overloads;
+    }
+
+    static ClassMetadata of(Class<?> type) {
+        Metrics.cacheLookup(Cache.ANNOTATION_METADATA);
+        return METADATA.get(type);
+    }
+
+    static ClassMetadata reflect(Class<?> type) {
+        Map<String, MemberMetadata> fields = new HashMap<>();
+        for (Field field : type.getDeclaredFields()) {
+            fields.put(field.getName(), MemberMetadata.reflect(field.getName(), field));
+        }
+
+        Map<String, Map<String, MemberMetadata>> methods = new HashMap<>();
+        Map<String, Method> resolvedMethods = new HashMap<>();
+        for (Method method : type.getDeclaredMethods()) {
+            String key = method.getName() + signature(method.getParameterTypes());
+
+            Method resolved = resolvedMethods.get(key);
+            if (resolved == null || resolved.isBridge()) {
+                resolvedMethods.put(key, method);
+                put(methods, method.getName(), signature(method.getParameterTypes()), MemberMetadata.reflect(method.getName(), method, isInheritable(type, method)));
+            }
+        }
+
+        return new ClassMetadata(type.getName(), MemberMetadata.reflect(type.toString(), type), fields, methods);
+    }
+
+    static ClassMetadata fromSnapshot(MetadataSnapshot snapshot, Class<?> type) {
+        ByteBuffer bytes = snapshot.isEnabled() ? snapshot.find(type) : null;
+        if (bytes == null) {
+            return null;
+        }
+
+        byte[] metadata = new byte[bytes.remaining()];
+        bytes.get(metadata);
+        try {
+            return AnnotationIndex.readType(new DataInputStream(new ByteArrayInputStream(metadata)), AnnotationIndex.VERSION, type.getClassLoader())
+                    .toClassMetadata(type);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    void toSnapshot(MetadataSnapshot snapshot, Class<?> type) {
+        if (!snapshot.isEnabled()) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream output = new DataOutputStream(bytes);
+            AnnotationIndex.writeType(output, classMetadata, fields, methods);
+            output.flush();
+        } catch (IOException e) {
+            return;
+        }
+        snapshot.record(type, annotationTypes(type.getClassLoader()), bytes.toByteArray());
+    }
+
+    private Set<Class<?>> annotationTypes(ClassLoader classLoader) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        addAnnotationTypes(types, classMetadata, classLoader);
+        for (MemberMetadata field : fields.values()) {
+            addAnnotationTypes(types, field, classLoader);
+        }
+        for (Map<String, MemberMetadata> overloads : methods.values()) {
+            for (MemberMetadata method : overloads.values()) {
+                addAnnotationTypes(types, method, classLoader);
+            }
+        }
+        return types;
+    }
+
+    private static void addAnnotationTypes(Set<Class<?>> types, MemberMetadata member, ClassLoader classLoader) {
+        for (AnnotationMetadata annotation : member.getAnnotations()) {
+            Class<?> annotationType = AnnotationAttributes.load(annotation.getTypeName(), classLoader);
+            if (annotationType != null && types.add(annotationType)) {
+                for (Object value : annotation.getDeclaredAttributes().values()) {
+                    addAnnotationTypes(types, value);
+                }
+            }
+        }
+    }
+
+    private static void addAnnotationTypes(Set<Class<?>> types, Object value) {
+        if (value instanceof Annotation) {
+            Annotation annotation = (Annotation) value;
+            if (types.add(annotation.annotationType())) {
+                for (Object attribute : AnnotationAttributes.declared(annotation).values()) {
+                    addAnnotationTypes(types, attribute);
+                }
+            }
+        } else if (value instanceof Annotation[]) {
+            for (Annotation annotation : (Annotation[]) value) {
+                addAnnotationTypes(types, annotation);
+            }
+        }
+    }
+
+    static Set<String> inheritableMethods(Class<?> type) {
+        Set<String> inheritable = new HashSet<>();
+        for (Method method : type.getDeclaredMethods()) {
+            if (isInheritable(type, method)) {
+                inheritable.add(method.getName() + signature(method.getParameterTypes()));
+            }
+        }
+        return inheritable;
+    }
+
+    private static boolean isInheritable(Class<?> type, Method method) {
+        return type.isInterface() ? method.isDefault() : !Modifier.isPrivate(method.getModifiers());
+    }
+
+    static String signature(Class<?>... parameterTypes) {
+        StringJoiner signature = new StringJoiner(",", "(", ")");
+        for (Class<?> parameterType : parameterTypes) {
+            signature.add(parameterType.getName());
+        }
+        return signature.toString();
+    }
+
+    static String signature(String descriptor) {
+        if (descriptor.isEmpty() || descriptor.charAt(0) != '(' || descriptor.indexOf(')') < 0) {
+            throw new AssertionError("Invalid method descriptor: " + descriptor);
+        }
+
+        StringJoiner signature = new StringJoiner(",", "(", ")");
+        int end = descriptor.indexOf(')');
+        int index = 1;
+        while (index < end) {
+            int start = index;
+            while (descriptor.charAt(index) == '[') {
+                index++;
+            }
+
+            if (descriptor.charAt(index) == 'L') {
+                index = descriptor.indexOf(';', index);
+                if (index < 0 || index > end) {
+                    throw new AssertionError("Invalid method descriptor: " + descriptor);
+                }
+            } else if ("ZBCSIJFD".indexOf(descriptor.charAt(index)) < 0) {
+                throw new AssertionError("Invalid method descriptor: " + descriptor);
+            }
+            index++;
+
+            signature.add(className(descriptor.substring(start, index)));
+        }
+
+        return signature.toString();
+    }
+
+    private static String className(String descriptor) {
+        if (descriptor.charAt(0) == '[') {
+            return descriptor.replace('/', '.');
+        }
+
+        switch (descriptor.charAt(0)) {
+            case 'L':
+                return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+            case 'Z':
+                return "boolean";
+            case 'B':
+                return "byte";
+            case 'C':
+                return "char";
+            case 'S':
+                return "short";
+            case 'I':
+                return "int";
+            case 'J':
+                return "long";
+            case 'F':
+                return "float";
+            default:
+                return "double";
+        }
+    }
+
+    private static void put(Map<String, Map<String, MemberMetadata>> methods, String name, String signature, MemberMetadata method) {
+        methods.computeIfAbsent(name, key -> new HashMap<>()).put(signature, method);
+    }
+
+    private ClassMetadata inherit(Class<?> type) {
+        Map<String, Map<String, MemberMetadata>> allMethods = new HashMap<>();
+        methods.forEach((name, overloads) -> allMethods.put(name, new HashMap<>(overloads)));
+
+        Map<String, Map<String, MemberMetadata>> inheritable = new HashMap<>();
+        methods.forEach((name, overloads) -> overloads.forEach((signature, method) -> {
+            if (method.isInheritable()) {
+                put(inheritable, name, signature, method);
+            }
+        }));
+
+        MemberMetadata annotations = classMetadata;
+        if (type.getSuperclass() != null) {
+            annotations = classMetadata.inheritFrom(of(type.getSuperclass()).classMetadata);
+            inheritFrom(type.getSuperclass(), allMethods, inheritable);
+        }
+        for (Class<?> superInterface : type.getInterfaces()) {
+            inheritFrom(superInterface, allMethods, inheritable);
+        }
+
+        return new ClassMetadata(typeName, annotations, fields, methods, allMethods, inheritable);
+    }
+
+    private static void inheritFrom(Class<?> superType, Map<String, Map<String, MemberMetadata>> allMethods, Map<String, Map<String, MemberMetadata>> inheritable) {
+        of(superType).inheritableMethods.forEach((name, overloads) -> overloads.forEach((signature, method) -> {
+            allMethods.computeIfAbsent(name, key -> new HashMap<>()).putIfAbsent(signature, method);
+            inheritable.computeIfAbsent(name, key -> new HashMap<>()).putIfAbsent(signature, method);
+        }));
+    }
+
+    MemberMetadata getClassMetadata() {
+        return classMetadata;
+    }
+
+    MemberMetadata getField(String fieldName) {
+        MemberMetadata field = fields.get(fieldName);
+
+        if (field == null) {
+            throw new AssertionError(new NoSuchFieldException(fieldName));
+        }
+
+        return field;
+    }
+
+    MemberMetadata getMethod(String methodName) {
+        Overloads methodOverloads = declaredOverloads.get(methodName);
+        MemberMetadata method = methodOverloads == null ? null : methodOverloads.find(NO_PARAMETERS);
+
+        if (method == null) {
+            throw new AssertionError(new NoSuchMethodException(typeName + "." + methodName + "()"));
+        }
+
+        return method;
+    }
+
+    MemberMetadata getMethod(String methodName, Class<?>... parameterTypes) {
+        Overloads methodOverloads = overloads.get(methodName);
+        MemberMetadata method = methodOverloads == null ? null : methodOverloads.find(parameterTypes);
+
+        if (method == null) {
+            throw new AssertionError(new NoSuchMethodException(typeName + "." + methodName + signature(parameterTypes)));
+        }
+
+        return method;
+    }
+
+    MemberMetadata getMethod(String methodName, String descriptor) {
+        String signature = descriptorSignatures.get(descriptor);
+        boolean cached = signature != null;
+        if (!cached) {
+            signature = signature(descriptor);
+        }
+
+        Overloads methodOverloads = overloads.get(methodName);
+        MemberMetadata method = methodOverloads == null ? null : methodOverloads.find(signature);
+
+        if (method == null) {
+            throw new AssertionError(new NoSuchMethodException(typeName + "." + methodName + signature));
+        }
+
+        if (!cached) {
+            descriptorSignatures.putIfAbsent(descriptor, signature);
+        }
+        return method;
+    }
+
+    private static final class Overloads {
+
+        private final String[] signatures;
+        private final MemberMetadata[] methods;
+
+        private Overloads(Map<String, MemberMetadata> overloads) {
+            this.signatures = new String[overloads.size()];
+            this.methods = new MemberMetadata[overloads.size()];
+
+            int index = 0;
+            for (Map.Entry<String, MemberMetadata> overload : overloads.entrySet()) {
+                signatures[index] = overload.getKey();
+                methods[index] = overload.getValue();
+                index++;
+            }
+        }
+
+        private MemberMetadata find(String signature) {
+            for (int i = 0; i < signatures.length; i++) {
+                if (signatures[i].equals(signature)) {
+                    return methods[i];
+                }
+            }
+            return null;
+        }
+
+        private MemberMetadata find(Class<?>[] parameterTypes) {
+            for (int i = 0; i < signatures.length; i++) {
+                if (matches(signatures[i], parameterTypes)) {
+                    return methods[i];
+                }
+            }
+            return null;
+        }
+
+        private static boolean matches(String signature, Class<?>[] parameterTypes) {
+            int position = 1;
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0 && (position >= signature.length() || signature.charAt(position++) != ',')) {
+                    return false;
+                }
+
+                String parameterName = parameterTypes[i].getName();
+                if (!signature.regionMatches(position, parameterName, 0, parameterName.length())) {
+                    return false;
+                }
+                position += parameterName.length();
+            }
+
+            return position == signature.length() - 1;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package testutils.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.Collections;
+import java.util.Map;
+
+final class IndexedAnnotation implements AnnotationMetadata {
+
+    private final String typeName;
+    private final Map<String, Object> declaredAttributes;
+    private final ClassLoader classLoader;
+    private volatile Class<?> annotationType;
+    private volatile Map<String, Object> attributes;
+
+    IndexedAnnotation(String typeName, Map<String, Object> declaredAttributes, ClassLoader classLoader) {
+        this.typeName = typeName;
+        this.declaredAttributes = Collections.unmodifiableMap(declaredAttributes);
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public Map<String, Object> getDeclaredAttributes() {
+        return declaredAttributes;
+    }
+
+    @Override
+    public boolean isInherited() {
+        Class<?> type = annotationType();
+        return type != null && type.isAnnotationPresent(Inherited.class);
+    }
+
+    @Override
+    public boolean hasAttribute(String attributeName) {
+        return attributes().containsKey(attributeName);
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) {
+        return attributes().get(attributeName);
+    }
+
+    @Override
+    public boolean isAttributeEqual(String attributeName, Object expectedValue) {
+        return AnnotationAttributes.valueEquals(attributes().get(attributeName), expectedValue);
+    }
+
+    @Override
+    public String toString() {
+        return "@" + typeName + attributes();
+    }
+
+    boolean matches(Annotation expected) {
+        if (!typeName.equals(expected.annotationType().getName())) {
+            return false;
+        }
+
+        Map<String, Object> values = attributes();
+        for (Map.Entry<String, Object> attribute : AnnotationAttributes.read(expected).entrySet()) {
+            if (!values.containsKey(attribute.getKey()) || !AnnotationAttributes.valueEquals(values.get(attribute.getKey()), attribute.getValue())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Class<?> annotationType() {
+        Class<?> type = annotationType;
+        if (type == null) {
+            type = AnnotationAttributes.load(typeName, classLoader);
+            annotationType = type;
+        }
+        return type;
+    }
+
+    private Map<String, Object> attributes() {
+        Map<String, Object> values = attributes;
+        if (values == null) {
+            Class<?> type = annotationType();
+            values = type == null || !type.isAnnotation()
+                    ? declaredAttributes
+                    : AnnotationAttributes.resolve(type, declaredAttributes, classLoader);
+            attributes = values;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,81 @@
+package testutils.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class MemberMetadata {
+
+    private final String name;
+    private final boolean inheritable;
+    private final int annotationCount;
+    private final Map<String, AnnotationMetadata> annotationsByType;
+
+    MemberMetadata(String name, List<? extends AnnotationMetadata> annotations) {
+        this(name, annotations, false);
+    }
+
+    MemberMetadata(String name, List<? extends AnnotationMetadata> annotations, boolean inheritable) {
+        this.name = name;
+        this.inheritable = inheritable;
+        this.annotationCount = annotations.size();
+
+        Map<String, AnnotationMetadata> byType = new HashMap<>();
+        for (AnnotationMetadata annotation : annotations) {
+            byType.put(annotation.getTypeName(), annotation);
+        }
+        this.annotationsByType = Collections.unmodifiableMap(byType);
+    }
+
+    static MemberMetadata reflect(String name, AnnotatedElement element) {
+        return reflect(name, element, false);
+    }
+
+    static MemberMetadata reflect(String name, AnnotatedElement element, boolean inheritable) {
+        Annotation[] annotations = element.getDeclaredAnnotations();
+        List<AnnotationMetadata> reflected = new ArrayList<>(annotations.length);
+        for (Annotation annotation : annotations) {
+            reflected.add(new ReflectedAnnotation(annotation));
+        }
+        return new MemberMetadata(name, reflected, inheritable);
+    }
+
+    MemberMetadata inheritFrom(MemberMetadata superclass) {
+        List<AnnotationMetadata> annotations = null;
+        for (AnnotationMetadata annotation : superclass.getAnnotations()) {
+            if (!annotationsByType.containsKey(annotation.getTypeName()) && annotation.isInherited()) {
+                if (annotations == null) {
+                    annotations = new ArrayList<>(annotationsByType.values());
+                }
+                annotations.add(annotation);
+            }
+        }
+
+        return annotations == null ? this : new MemberMetadata(name, annotations, inheritable);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    boolean isInheritable() {
+        return inheritable;
+    }
+
+    int getAnnotationCount() {
+        return annotationCount;
+    }
+
+    Collection<AnnotationMetadata> getAnnotations() {
+        return annotationsByType.values();
+    }
+
+    AnnotationMetadata getAnnotation(Class<?> annotationType) {
+        return annotationsByType.get(annotationType.getName());
+    }
+}
@@ -0,0 +1,47 @@
+package testutils.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.Collections;
+import java.util.Map;
+
+final class ReflectedAnnotation implements AnnotationMetadata {
+
+    private final Annotation annotation;
+    private final Map<String, Object> attributes;
+
+    ReflectedAnnotation(Annotation annotation) {
+        this.annotation = annotation;
+        this.attributes = Collections.unmodifiableMap(AnnotationAttributes.read(annotation));
+    }
+
+    @Override
+    public String getTypeName() {
+        return annotation.annotationType().getName();
+    }
+
+    @Override
+    public Map<String, Object> getDeclaredAttributes() {
+        return AnnotationAttributes.declared(annotation);
+    }
+
+    @Override
+    public boolean isInherited() {
+        return annotation.annotationType().isAnnotationPresent(Inherited.class);
+    }
+
+    @Override
+    public boolean hasAttribute(String attributeName) {
+        return attributes.containsKey(attributeName);
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+    @Override
+    public boolean isAttributeEqual(String attributeName, Object expectedValue) {
+        return AnnotationAttributes.valueEquals(attributes.get(attributeName), expectedValue);
+    }
+}
@@ -0,0 +1,231 @@
+package testutils.classpath;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class ClassFile {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_SYNTHETIC = 0x1000;
+    private static final int ACC_MODULE = 0x8000;
+    private static final byte[] RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.US_ASCII);
+
+    private final String name;
+    private final int accessFlags;
+    private final List<String> annotations;
+
+    private ClassFile(String name, int accessFlags, List<String> annotations) {
+        this.name = name;
+        this.accessFlags = accessFlags;
+        this.annotations = annotations;
+    }
+
+    public static ClassFile read(ByteBuffer bytes) {
+        ByteBuffer buffer = bytes.slice();
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+
+        buffer.getInt();
+        int constantCount = Short.toUnsignedInt(buffer.getShort());
+        int[] offsets = new int[constantCount];
+
+        for (int i = 1; i < constantCount; i++) {
+            offsets[i] = buffer.position();
+            int tag = Byte.toUnsignedInt(buffer.get());
+            switch (tag) {
+                case 1:
+                    skip(buffer, Short.toUnsignedInt(buffer.getShort()));
+                    break;
+                case 5:
+                case 6:
+                    skip(buffer, 8);
+                    i++;
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    skip(buffer, 2);
+                    break;
+                case 15:
+                    skip(buffer, 3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    skip(buffer, 4);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown constant pool tag: " + tag);
+            }
+        }
+
+        int accessFlags = Short.toUnsignedInt(buffer.getShort());
+        String name = utf8(buffer, offsets, classNameIndex(buffer, offsets, Short.toUnsignedInt(buffer.getShort()))).replace('/', '.');
+        skip(buffer, 2);
+        skip(buffer, 2 * Short.toUnsignedInt(buffer.getShort()));
+        skipMembers(buffer);
+        skipMembers(buffer);
+
+        List<String> annotations = Collections.emptyList();
+        int attributeCount = Short.toUnsignedInt(buffer.getShort());
+        for (int i = 0; i < attributeCount; i++) {
+            int nameIndex = Short.toUnsignedInt(buffer.getShort());
+            int length = buffer.getInt();
+            int end = buffer.position() + length;
+
+            if (utf8Equals(buffer, offsets[nameIndex], RUNTIME_VISIBLE_ANNOTATIONS)) {
+                annotations = readAnnotations(buffer, offsets);
+            }
+
+            buffer.position(end);
+        }
+
+        return new ClassFile(name, accessFlags, annotations);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPackageName() {
+        int index = name.lastIndexOf('.');
+        return index < 0 ? "" : name.substring(0, index);
+    }
+
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    public boolean hasAnnotation(Class<?> annotationType) {
+        return annotations.contains(annotationType.getName());
+    }
+
+    public boolean isSynthetic() {
+        return (accessFlags & ACC_SYNTHETIC) != 0;
+    }
+
+    public boolean isModuleOrPackageInfo() {
+        return (accessFlags & ACC_MODULE) != 0 || name.endsWith("package-info");
+    }
+
+    public boolean isAnonymousOrLocal() {
+        int index = name.lastIndexOf('$');
+        return index >= 0 && index + 1 < name.length() && Character.isDigit(name.charAt(index + 1));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static List<String> readAnnotations(ByteBuffer buffer, int[] offsets) {
+        int count = Short.toUnsignedInt(buffer.getShort());
+        List<String> annotations = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String descriptor = utf8(buffer, offsets, Short.toUnsignedInt(buffer.getShort()));
+            annotations.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+            skipElementValuePairs(buffer);
+        }
+
+        return Collections.unmodifiableList(annotations);
+    }
+
+    private static void skipElementValuePairs(ByteBuffer buffer) {
+        int pairs = Short.toUnsignedInt(buffer.getShort());
+        for (int i = 0; i < pairs; i++) {
+            skip(buffer, 2);
+            skipElementValue(buffer);
+        }
+    }
+
+    private static void skipElementValue(ByteBuffer buffer) {
+        char tag = (char) buffer.get();
+        switch (tag) {
+            case 'e':
+                skip(buffer, 4);
+                break;
+            case '@':
+                skip(buffer, 2);
+                skipElementValuePairs(buffer);
+                break;
+            case '[':
+                int count = Short.toUnsignedInt(buffer.getShort());
+                for (int i = 0; i < count; i++) {
+                    skipElementValue(buffer);
+                }
+                break;
+            default:
+                skip(buffer, 2);
+        }
+    }
+
+    private static void skipMembers(ByteBuffer buffer) {
+        int count = Short.toUnsignedInt(buffer.getShort());
+        for (int i = 0; i < count; i++) {
+            skip(buffer, 6);
+            int attributeCount = Short.toUnsignedInt(buffer.getShort());
+            for (int j = 0; j < attributeCount; j++) {
+                skip(buffer, 2);
+                skip(buffer, buffer.getInt());
+            }
+        }
+    }
+
+    private static int classNameIndex(ByteBuffer buffer, int[] offsets, int classIndex) {
+        return Short.toUnsignedInt(buffer.getShort(offsets[classIndex] + 1));
+    }
+
+    private static boolean utf8Equals(ByteBuffer buffer, int offset, byte[] expected) {
+        if (Short.toUnsignedInt(buffer.getShort(offset + 1)) != expected.length) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(offset + 3 + i) != expected[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String utf8(ByteBuffer buffer, int[] offsets, int index) {
+        int offset = offsets[index];
+        int length = Short.toUnsignedInt(buffer.getShort(offset + 1));
+        char[] chars = new char[length];
+        int count = 0;
+
+        for (int i = offset + 3; i < offset + 3 + length; ) {
+            int b = Byte.toUnsignedInt(buffer.get(i));
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+                i++;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (buffer.get(i + 1) & 0x3F));
+                i += 2;
+            } else {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((buffer.get(i + 1) & 0x3F) << 6) | (buffer.get(i + 2) & 0x3F));
+                i += 3;
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    private static void skip(ByteBuffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+}
@@ -0,0 +1,124 @@
+package testutils.classpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public final class ClassPathScanner {
+
+    private static final String CLASS_EXTENSION = ".class";
+
+    private ClassPathScanner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static List<ClassFile> scanPackage(String packageName) throws IOException {
+        return scanPackage(packageName, false);
+    }
+
+    public static List<ClassFile> scanPackage(String packageName, boolean recursive) throws IOException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return scanPackage(classLoader == null ? ClassPathScanner.class.getClassLoader() : classLoader, packageName, recursive);
+    }
+
+    public static List<ClassFile> scanPackage(ClassLoader classLoader, String packageName) throws IOException {
+        return scanPackage(classLoader, packageName, false);
+    }
+
+    public static List<ClassFile> scanPackage(ClassLoader classLoader, String packageName, boolean recursive) throws IOException {
+        String packagePath = packageName.replace('.', '/');
+        List<ClassFile> classFiles = new ArrayList<>();
+
+        Enumeration<URL> resources = classLoader.getResources(packagePath);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+
+            if ("file".equals(resource.getProtocol())) {
+                classFiles.addAll(scanDirectory(toPath(resource), recursive));
+            } else if ("jar".equals(resource.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) resource.openConnection();
+                connection.setUseCaches(false);
+                classFiles.addAll(scanJar(toPath(connection.getJarFileURL()), packagePath + "/", recursive));
+            }
+        }
+
+        return classFiles;
+    }
+
+    public static List<ClassFile> scanDirectory(Path directory) throws IOException {
+        return scanDirectory(directory, true);
+    }
+
+    public static List<ClassFile> scanDirectory(Path directory, boolean recursive) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory, recursive ? Integer.MAX_VALUE : 1)) {
+            return paths.parallel()
+                    .filter(path -> path.getFileName().toString().endsWith(CLASS_EXTENSION))
+                    .map(ClassPathScanner::readClassFile)
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static List<ClassFile> scanJar(Path jar) throws IOException {
+        return scanJar(jar, "", true);
+    }
+
+    public static List<ClassFile> scanJar(Path jar, String prefix) throws IOException {
+        return scanJar(jar, prefix, true);
+    }
+
+    public static List<ClassFile> scanJar(Path jar, String prefix, boolean recursive) throws IOException {
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            List<ZipEntry> entries = zip.stream()
+                    .filter(entry -> entry.getName().startsWith(prefix) && entry.getName().endsWith(CLASS_EXTENSION))
+                    .filter(entry -> recursive || entry.getName().indexOf('/', prefix.length()) < 0)
+                    .filter(entry -> !entry.getName().startsWith("META-INF/versions/"))
+                    .collect(Collectors.toList());
+
+            return entries.parallelStream()
+                    .map(entry -> readClassFile(zip, entry))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ClassFile readClassFile(Path path) {
+        try {
+            return ClassFile.read(ByteBuffer.wrap(Files.readAllBytes(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ClassFile readClassFile(ZipFile zip, ZipEntry entry) {
+        try (InputStream inputStream = zip.getInputStream(entry)) {
+            return ClassFile.read(ByteBuffer.wrap(inputStream.readAllBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package testutils.classpath;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+public final class MetadataSnapshot {
+
+    public static final String DIRECTORY_PROPERTY = "testutils.metadata.cache";
+
+    static final String FILE_NAME = "metadata.snapshot";
+    static final String LOCK_FILE_NAME = FILE_NAME + ".lock";
+    static final int MAGIC = 0x54554D53;
+    static final int VERSION = 3;
+
+    private static final long NO_HASH = 0;
+    private static final String[] NO_DEPENDENCIES = new String[0];
+    private static final long[] NO_DEPENDENCY_HASHES = new long[0];
+    private static final MetadataSnapshot DISABLED = new MetadataSnapshot(null, Collections.emptyMap());
+    private static final Object SAVE_LOCK = new Object();
+    private static final Logger LOGGER = Logger.getLogger(MetadataSnapshot.class.getName());
+
+    private static final ClassValue<Long> HASHES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return readHash(type);
+        }
+    };
+
+    private static volatile MetadataSnapshot shared;
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+    private final ConcurrentMap<String, Entry> recorded = new ConcurrentHashMap<>();
+
+    private MetadataSnapshot(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    public static MetadataSnapshot shared() {
+        MetadataSnapshot snapshot = shared;
+        if (snapshot == null) {
+            synchronized (MetadataSnapshot.class) {
+                snapshot = shared;
+                if (snapshot == null) {
+                    snapshot = openShared();
+                    shared = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    public static MetadataSnapshot open(Path file) throws IOException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return new MetadataSnapshot(file, Collections.emptyMap());
+        }
+
+        try {
+            return new MetadataSnapshot(file, readEntries(ByteBuffer.wrap(content), file));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupted metadata snapshot: " + file, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Set<String> getTypeNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public ByteBuffer find(Class<?> type) {
+        Entry entry = entries.get(type.getName());
+
+        if (entry == null || entry.hash != hash(type) || !isCurrent(entry, type.getClassLoader())) {
+            return null;
+        }
+
+        return entry.metadata();
+    }
+
+    public void record(Class<?> type, byte[] metadata) {
+        record(type, Collections.emptyList(), metadata);
+    }
+
+    public void record(Class<?> type, Collection<Class<?>> dependencies, byte[] metadata) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long hash = hash(type);
+        if (hash == NO_HASH) {
+            return;
+        }
+
+        Map<String, Long> hashes = new LinkedHashMap<>();
+        for (Class<?> dependency : dependencies) {
+            long dependencyHash = hash(dependency);
+            if (dependencyHash != NO_HASH) {
+                hashes.put(dependency.getName(), dependencyHash);
+            }
+        }
+
+        String[] names = hashes.keySet().toArray(NO_DEPENDENCIES);
+        long[] dependencyHashes = new long[names.length];
+        for (int i = 0; i < names.length; i++) {
+            dependencyHashes[i] = hashes.get(names[i]);
+        }
+
+        recorded.put(type.getName(), new Entry(hash, names, dependencyHashes, ByteBuffer.wrap(metadata.clone()), 0, metadata.length));
+    }
+
+    public int getRecordedCount() {
+        return recorded.size();
+    }
+
+    public void save() throws IOException {
+        if (!isEnabled() || recorded.isEmpty()) {
+            return;
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        synchronized (SAVE_LOCK) {
+            try (FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockChannel.lock();
+                try {
+                    write(directory, merge());
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    private Map<String, Entry> merge() {
+        MetadataSnapshot current;
+        try {
+            current = open(file);
+        } catch (IOException e) {
+            current = new MetadataSnapshot(file, Collections.emptyMap());
+        }
+
+        Map<String, Entry> merged = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> entry : current.entries.entrySet()) {
+            if (!recorded.containsKey(entry.getKey())) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        merged.putAll(recorded);
+        return merged;
+    }
+
+    private void write(Path directory, Map<String, Entry> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(records.size());
+        for (Map.Entry<String, Entry> record : records.entrySet()) {
+            Entry entry = record.getValue();
+            writeName(output, record.getKey());
+            output.writeInt(entry.length);
+            output.writeLong(entry.hash);
+            output.writeShort(entry.dependencies.length);
+            for (int i = 0; i < entry.dependencies.length; i++) {
+                writeName(output, entry.dependencies[i]);
+                output.writeLong(entry.dependencyHashes[i]);
+            }
+            ByteBuffer metadata = entry.metadata();
+            byte[] content = new byte[metadata.remaining()];
+            metadata.get(content);
+            output.write(content);
+        }
+        output.flush();
+
+        Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+        try {
+            Files.write(temporary, bytes.toByteArray());
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    static long hash(Class<?> type) {
+        return HASHES.get(type);
+    }
+
+    private static long readHash(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null || type.isArray() || type.isPrimitive()) {
+            return NO_HASH;
+        }
+
+        byte[] bytes;
+        try (InputStream inputStream = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if (inputStream == null) {
+                return NO_HASH;
+            }
+            bytes = inputStream.readAllBytes();
+        } catch (IOException e) {
+            return NO_HASH;
+        }
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes);
+        return (long) bytes.length << 32 | checksum.getValue();
+    }
+
+    private static MetadataSnapshot openShared() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isBlank() || "false".equals(directory)) {
+            return DISABLED;
+        }
+
+        Path file = Paths.get(directory).resolve(FILE_NAME);
+        MetadataSnapshot snapshot;
+        try {
+            snapshot = open(file);
+        } catch (IOException e) {
+            snapshot = new MetadataSnapshot(file, Collections.emptyMap());
+        }
+
+        MetadataSnapshot saved = snapshot;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                saved.save();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, e, () -> "Saving metadata snapshot " + saved.getFile() + " failed");
+            }
+        }, "testutils-metadata-snapshot"));
+
+        return snapshot;
+    }
+
+    private static Map<String, Entry> readEntries(ByteBuffer buffer, Path file) throws IOException {
+        if (buffer.getInt() != MAGIC || Short.toUnsignedInt(buffer.getShort()) != VERSION) {
+            throw new IOException("Unsupported metadata snapshot: " + file);
+        }
+
+        int count = buffer.getInt();
+        Map<String, Entry> entries = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String name = readName(buffer);
+            int length = buffer.getInt();
+            long hash = buffer.getLong();
+
+            int dependencyCount = Short.toUnsignedInt(buffer.getShort());
+            String[] dependencies = dependencyCount == 0 ? NO_DEPENDENCIES : new String[dependencyCount];
+            long[] dependencyHashes = dependencyCount == 0 ? NO_DEPENDENCY_HASHES : new long[dependencyCount];
+            for (int j = 0; j < dependencyCount; j++) {
+                dependencies[j] = readName(buffer);
+                dependencyHashes[j] = buffer.getLong();
+            }
+
+            int offset = buffer.position();
+            buffer.position(offset + length);
+            entries.put(name, new Entry(hash, dependencies, dependencyHashes, buffer, offset, length));
+        }
+
+        return entries;
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static void writeName(DataOutputStream output, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    private static boolean isCurrent(Entry entry, ClassLoader classLoader) {
+        for (int i = 0; i < entry.dependencies.length; i++) {
+            Class<?> dependency;
+            try {
+                dependency = Class.forName(entry.dependencies[i], false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+
+            if (hash(dependency) != entry.dependencyHashes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Entry {
+
+        private final long hash;
+        private final String[] dependencies;
+        private final long[] dependencyHashes;
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        private Entry(long hash, String[] dependencies, long[] dependencyHashes, ByteBuffer buffer, int offset, int length) {
+            this.hash = hash;
+            this.dependencies = dependencies;
+            this.dependencyHashes = dependencyHashes;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private ByteBuffer metadata() {
+            ByteBuffer metadata = buffer.duplicate();
+            metadata.position(offset).limit(offset + length);
+            return metadata.slice().asReadOnlyBuffer();
+        }
+    }
+}
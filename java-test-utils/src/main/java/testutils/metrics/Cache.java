@@ -0,0 +1,22 @@
+package testutils.metrics;
+
+public enum Cache {
+    FIELDS("fields"),
+    FIELD_HANDLES("fieldHandles"),
+    METHOD_INVOKERS("methodInvokers"),
+    COPY_PLANS("copyPlans"),
+    FIELD_PATHS("fieldPaths"),
+    INSTANCE_FACTORIES("instanceFactories"),
+    FILL_PLANS("fillPlans"),
+    ANNOTATION_METADATA("annotationMetadata");
+
+    private final String cacheName;
+
+    Cache(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+}
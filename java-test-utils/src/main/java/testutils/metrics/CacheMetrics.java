@@ -0,0 +1,54 @@
+package testutils.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CacheMetrics {
+
+    private final Cache cache;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    CacheMetrics(Cache cache) {
+        this.cache = cache;
+    }
+
+    void lookup() {
+        lookups.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void reset() {
+        lookups.reset();
+        misses.reset();
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getHitCount() {
+        return Math.max(0, getLookupCount() - getMissCount());
+    }
+
+    public double getHitRate() {
+        long total = getLookupCount();
+        return total == 0 ? 0 : (double) getHitCount() / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-36s lookups=%d hits=%d misses=%d hitRate=%.2f%%",
+                cache.getCacheName(), getLookupCount(), getHitCount(), getMissCount(), getHitRate() * 100);
+    }
+}
@@ -0,0 +1,178 @@
+package testutils.metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class Metrics {
+
+    static final String ENABLED_PROPERTY = "testutils.metrics";
+    static final String DUMP_PROPERTY = "testutils.metrics.dump";
+
+    private static final OperationMetrics[] OPERATIONS = new OperationMetrics[Operation.values().length];
+    private static final CacheMetrics[] CACHES = new CacheMetrics[Cache.values().length];
+    private static final AtomicBoolean DUMP_REGISTERED = new AtomicBoolean();
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    static {
+        for (Operation operation : Operation.values()) {
+            OPERATIONS[operation.ordinal()] = new OperationMetrics(operation);
+        }
+
+        for (Cache cache : Cache.values()) {
+            CACHES[cache.ordinal()] = new CacheMetrics(cache);
+        }
+
+        String dump = System.getProperty(DUMP_PROPERTY);
+        if (dump != null && !dump.isEmpty() && !"false".equals(dump)) {
+            enabled = true;
+            if ("true".equals(dump)) {
+                dumpAtExit();
+            } else {
+                dumpAtExit(Paths.get(dump));
+            }
+        }
+    }
+
+    private Metrics() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    public static Timing start() {
+        if (OperationEvent.isRecording()) {
+            OperationEvent event = new OperationEvent();
+            event.begin();
+            return new Timing(System.nanoTime(), event);
+        }
+        return enabled ? new Timing(System.nanoTime(), null) : Timing.DISABLED;
+    }
+
+    public static void record(Operation operation, Timing timing, Class<?> type, String member) {
+        if (timing != Timing.DISABLED) {
+            complete(operation, timing, type, member, 0, false);
+        }
+    }
+
+    public static void record(Operation operation, Timing timing, Class<?> type, Class<?> declaringClass, String member) {
+        if (timing != Timing.DISABLED) {
+            complete(operation, timing, type, member, enabled ? depth(type, declaringClass) : 0, false);
+        }
+    }
+
+    public static <T extends Throwable> T failed(Operation operation, Timing timing, Class<?> type, String member, T failure) {
+        if (timing != Timing.DISABLED) {
+            complete(operation, timing, type, member, 0, true);
+        }
+        return failure;
+    }
+
+    public static void cacheLookup(Cache cache) {
+        if (enabled) {
+            CACHES[cache.ordinal()].lookup();
+        }
+    }
+
+    public static void cacheMiss(Cache cache) {
+        if (enabled) {
+            CACHES[cache.ordinal()].miss();
+        }
+    }
+
+    public static OperationMetrics get(Operation operation) {
+        return OPERATIONS[operation.ordinal()];
+    }
+
+    public static CacheMetrics get(Cache cache) {
+        return CACHES[cache.ordinal()];
+    }
+
+    public static void reset() {
+        for (OperationMetrics operation : OPERATIONS) {
+            operation.reset();
+        }
+
+        for (CacheMetrics cache : CACHES) {
+            cache.reset();
+        }
+    }
+
+    public static String report() {
+        List<OperationMetrics> operations = new ArrayList<>(Arrays.asList(OPERATIONS));
+        operations.removeIf(operation -> operation.getCount() == 0);
+        operations.sort(Comparator.comparingLong(OperationMetrics::getTotalNanos).reversed());
+
+        StringBuilder report = new StringBuilder("java-test-utils metrics").append(System.lineSeparator());
+        for (OperationMetrics operation : operations) {
+            report.append("  ").append(operation).append(System.lineSeparator());
+        }
+
+        for (CacheMetrics cache : CACHES) {
+            if (cache.getLookupCount() > 0) {
+                report.append("  ").append(cache).append(System.lineSeparator());
+            }
+        }
+
+        return report.toString();
+    }
+
+    public static void dump(PrintStream output) {
+        output.print(report());
+        output.flush();
+    }
+
+    public static void dumpAtExit() {
+        registerDump(() -> dump(System.err));
+    }
+
+    public static void dumpAtExit(Path file) {
+        registerDump(() -> {
+            try {
+                Files.write(file, report().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void registerDump(Runnable dump) {
+        if (DUMP_REGISTERED.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(dump, "testutils-metrics-dump"));
+        }
+    }
+
+    private static void complete(Operation operation, Timing timing, Class<?> type, String member, int depth, boolean failed) {
+        if (enabled) {
+            OPERATIONS[operation.ordinal()].record(System.nanoTime() - timing.start, depth, failed);
+        }
+
+        if (timing.event != null) {
+            timing.event.complete(operation, type, member, failed);
+        }
+    }
+
+    private static int depth(Class<?> type, Class<?> declaringClass) {
+        int depth = 0;
+        for (Class<?> current = type; current != null && current != declaringClass; current = current.getSuperclass()) {
+            depth++;
+        }
+        return depth;
+    }
+}
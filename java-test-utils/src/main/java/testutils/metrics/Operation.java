@@ -0,0 +1,30 @@
+package testutils.metrics;
+
+public enum Operation {
+    GET_FIELD_VALUE("getFieldValue"),
+    SET_FIELD_VALUE("setFieldValue"),
+    GET_STATIC_FIELD_VALUE("getStaticFieldValue"),
+    SET_STATIC_FIELD_VALUE("setStaticFieldValue"),
+    ASSERT_CLASS_ANNOTATION("assertClassAnnotation"),
+    ASSERT_FIELD_ANNOTATION("assertFieldAnnotation"),
+    ASSERT_METHOD_ANNOTATION("assertMethodAnnotation"),
+    ASSERT_CLASS_ANNOTATION_PARAMETER("assertClassAnnotationParameter"),
+    ASSERT_FIELD_ANNOTATION_PARAMETER("assertFieldAnnotationParameter"),
+    ASSERT_METHOD_ANNOTATION_PARAMETER("assertMethodAnnotationParameter"),
+    ASSERT_CLASS_ANNOTATION_PARAMETERS("assertClassAnnotationParameters"),
+    ASSERT_FIELD_ANNOTATION_PARAMETERS("assertFieldAnnotationParameters"),
+    ASSERT_METHOD_ANNOTATION_PARAMETERS("assertMethodAnnotationParameters"),
+    ASSERT_PACKAGE_ANNOTATION("assertPackageAnnotation"),
+    ASSERT_JAR_ANNOTATION("assertJarAnnotation"),
+    VERIFY_CLASS_ANNOTATIONS("forClass.verify");
+
+    private final String operationName;
+
+    Operation(String operationName) {
+        this.operationName = operationName;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+}
@@ -0,0 +1,47 @@
+package testutils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("testutils.Operation")
+@Label("Test Utils Operation")
+@Description("A field access or annotation assertion made through java-test-utils")
+@Category("java-test-utils")
+@Enabled(false)
+@StackTrace(false)
+final class OperationEvent extends Event {
+
+    private static final OperationEvent PROBE = new OperationEvent();
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Member")
+    String member;
+
+    @Label("Failed")
+    boolean failed;
+
+    static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+
+    void complete(Operation operation, Class<?> type, String member, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation.getOperationName();
+            this.type = type;
+            this.member = member;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package testutils.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class OperationMetrics {
+
+    private final Operation operation;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder totalDepth = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    OperationMetrics(Operation operation) {
+        this.operation = operation;
+    }
+
+    void record(long nanos, int depth, boolean failed) {
+        count.increment();
+        if (failed) {
+            failures.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        latencies.record(nanos);
+
+        if (depth > 0) {
+            totalDepth.add(depth);
+            maxDepth.accumulate(depth);
+        }
+    }
+
+    void reset() {
+        count.reset();
+        failures.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        totalDepth.reset();
+        maxDepth.reset();
+        latencies.reset();
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMeanNanos() {
+        long calls = getCount();
+        return calls == 0 ? 0 : getTotalNanos() / calls;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile out of range: " + percentile);
+        }
+
+        return latencies.percentile(percentile);
+    }
+
+    public double getMeanDepth() {
+        long calls = getCount();
+        return calls == 0 ? 0 : (double) totalDepth.sum() / calls;
+    }
+
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-36s count=%d failures=%d total=%.3fms mean=%dns p50=%dns p90=%dns p99=%dns max=%dns depth(mean=%.2f max=%d)",
+                operation.getOperationName(), getCount(), getFailureCount(), getTotalNanos() / 1e6, getMeanNanos(),
+                getPercentileNanos(50), getPercentileNanos(90), getPercentileNanos(99), getMaxNanos(), getMeanDepth(), getMaxDepth());
+    }
+}
@@ -0,0 +1,14 @@
+package testutils.metrics;
+
+public final class Timing {
+
+    static final Timing DISABLED = new Timing(0, null);
+
+    final long start;
+    final OperationEvent event;
+
+    Timing(long start, OperationEvent event) {
+        this.start = start;
+        this.event = event;
+    }
+}
@@ -0,0 +1,179 @@
+package testutils.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+final class ComparisonPlan {
+
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(
+            Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            String.class, BigInteger.class, BigDecimal.class, UUID.class, URI.class, Locale.class, Currency.class, Class.class);
+    private static final String VALUE_PACKAGE = "java.time";
+
+    private static final ClassValue<ComparisonPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ComparisonPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final boolean value;
+    private final String[] primitiveNames;
+    private final MethodHandle[] primitiveEquals;
+    private final MethodHandle[] primitiveGetters;
+    private final String[] referenceNames;
+    private final MethodHandle[] referenceGetters;
+
+    private ComparisonPlan(boolean value, List<String> primitiveNames, List<MethodHandle> primitiveEquals, List<MethodHandle> primitiveGetters,
+                           List<String> referenceNames, List<MethodHandle> referenceGetters) {
+        this.value = value;
+        this.primitiveNames = primitiveNames.toArray(new String[0]);
+        this.primitiveEquals = primitiveEquals.toArray(new MethodHandle[0]);
+        this.primitiveGetters = primitiveGetters.toArray(new MethodHandle[0]);
+        this.referenceNames = referenceNames.toArray(new String[0]);
+        this.referenceGetters = referenceGetters.toArray(new MethodHandle[0]);
+    }
+
+    static ComparisonPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    boolean isValue() {
+        return value;
+    }
+
+    int primitiveCount() {
+        return primitiveNames.length;
+    }
+
+    String primitiveName(int index) {
+        return primitiveNames[index];
+    }
+
+    boolean primitiveEquals(int index, Object expected, Object actual) throws Throwable {
+        return (boolean) primitiveEquals[index].invokeExact(expected, actual);
+    }
+
+    Object primitiveValue(int index, Object target) throws Throwable {
+        return (Object) primitiveGetters[index].invokeExact(target);
+    }
+
+    int referenceCount() {
+        return referenceNames.length;
+    }
+
+    String referenceName(int index) {
+        return referenceNames[index];
+    }
+
+    Object referenceValue(int index, Object target) throws Throwable {
+        return (Object) referenceGetters[index].invokeExact(target);
+    }
+
+    private static ComparisonPlan compile(Class<?> type) {
+        if (isValueType(type)) {
+            return valuePlan();
+        }
+
+        List<String> primitiveNames = new ArrayList<>();
+        List<MethodHandle> primitiveEquals = new ArrayList<>();
+        List<MethodHandle> primitiveGetters = new ArrayList<>();
+        List<String> referenceNames = new ArrayList<>();
+        List<MethodHandle> referenceGetters = new ArrayList<>();
+
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                FieldHandle handle = FieldHandle.of(field);
+                if (!handle.isReadable()) {
+                    return valuePlan();
+                }
+
+                if (field.getType().isPrimitive()) {
+                    primitiveNames.add(field.getName());
+                    primitiveEquals.add(MethodHandles.filterArguments(equality(field.getType()), 0, handle.getExactGetter(), handle.getExactGetter()));
+                    primitiveGetters.add(handle.getGetter());
+                } else {
+                    referenceNames.add(field.getName());
+                    referenceGetters.add(handle.getGetter());
+                }
+            }
+        }
+
+        return new ComparisonPlan(false, primitiveNames, primitiveEquals, primitiveGetters, referenceNames, referenceGetters);
+    }
+
+    private static ComparisonPlan valuePlan() {
+        return new ComparisonPlan(true, List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    private static boolean isValueType(Class<?> type) {
+        return type.isPrimitive()
+                || type.isEnum()
+                || (type.getSuperclass() != null && type.getSuperclass().isEnum())
+                || VALUE_TYPES.contains(type)
+                || VALUE_PACKAGE.equals(type.getPackageName());
+    }
+
+    private static MethodHandle equality(Class<?> primitiveType) {
+        try {
+            return MethodHandles.lookup().findStatic(ComparisonPlan.class, "equal", MethodType.methodType(boolean.class, primitiveType, primitiveType));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean equal(boolean expected, boolean actual) {
+        return expected == actual;
+    }
+
+    private static boolean equal(byte expected, byte actual) {
+        return expected == actual;
+    }
+
+    private static boolean equal(short expected, short actual) {
+        return expected == actual;
+    }
+
+    private static boolean equal(char expected, char actual) {
+        return expected == actual;
+    }
+
+    private static boolean equal(int expected, int actual) {
+        return expected == actual;
+    }
+
+    private static boolean equal(long expected, long actual) {
+        return expected == actual;
+    }
+
+    private static boolean equal(float expected, float actual) {
+        return Float.floatToIntBits(expected) == Float.floatToIntBits(actual);
+    }
+
+    private static boolean equal(double expected, double actual) {
+        return Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual);
+    }
+}
@@ -0,0 +1,182 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CopyPlan {
+
+    private static final ClassValue<CopyPlan> INSTANCE_PLANS = new ClassValue<>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return compile(type, false);
+        }
+    };
+
+    private static final ClassValue<CopyPlan> STATIC_PLANS = new ClassValue<>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return compile(type, true);
+        }
+    };
+
+    private final FieldHandle[] handles;
+
+    private CopyPlan(FieldHandle[] handles) {
+        this.handles = handles;
+    }
+
+    static CopyPlan forInstance(Class<?> type) {
+        Metrics.cacheLookup(Cache.COPY_PLANS);
+        return INSTANCE_PLANS.get(type);
+    }
+
+    static CopyPlan forStatics(Class<?> type) {
+        Metrics.cacheLookup(Cache.COPY_PLANS);
+        return STATIC_PLANS.get(type);
+    }
+
+    int size() {
+        return handles.length;
+    }
+
+    Object[] capture(Object target) throws ReflectionException {
+        Object[] values = new Object[handles.length];
+
+        for (int i = 0; i < handles.length; i++) {
+            values[i] = captureContents(handles[i].get(target));
+        }
+
+        return values;
+    }
+
+    void restore(Object target, Object[] values) throws ReflectionException {
+        for (int i = 0; i < handles.length; i++) {
+            if (values[i] instanceof Contents) {
+                Contents contents = (Contents) values[i];
+                handles[i].set(target, contents.container);
+                contents.reset();
+            } else {
+                handles[i].set(target, values[i]);
+            }
+        }
+    }
+
+    private static Object captureContents(Object value) {
+        if (value instanceof Collection) {
+            return new Contents(value, new ArrayList<>((Collection<?>) value));
+        }
+
+        if (value instanceof Map) {
+            return new Contents(value, new LinkedHashMap<>((Map<?, ?>) value));
+        }
+
+        if (value != null && value.getClass().isArray() && Array.getLength(value) > 0) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return new Contents(value, copy);
+        }
+
+        return value;
+    }
+
+    private static CopyPlan compile(Class<?> type, boolean statics) {
+        Metrics.cacheMiss(Cache.COPY_PLANS);
+        List<FieldHandle> handles = new ArrayList<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) != statics || field.isSynthetic()) {
+                    continue;
+                }
+
+                FieldHandle handle = FieldHandle.of(field);
+                if (handle.isReadable() && handle.isWritable()) {
+                    handles.add(handle);
+                }
+            }
+        }
+
+        return new CopyPlan(handles.toArray(new FieldHandle[0]));
+    }
+
+    private static final class Contents {
+
+        private final Object container;
+        private final Object copy;
+
+        private Contents(Object container, Object copy) {
+            this.container = container;
+            this.copy = copy;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void reset() throws ReflectionException {
+            try {
+                if (container instanceof Collection) {
+                    reset((Collection<Object>) container, (List<Object>) copy);
+                } else if (container instanceof Map) {
+                    reset((Map<Object, Object>) container, (Map<Object, Object>) copy);
+                } else {
+                    System.arraycopy(copy, 0, container, 0, Array.getLength(copy));
+                }
+            } catch (UnsupportedOperationException e) {
+                throw new ReflectionException(e);
+            }
+        }
+
+        private static void reset(Collection<Object> current, List<Object> saved) {
+            if (current.size() == saved.size() && isSame(current.iterator(), saved.iterator())) {
+                return;
+            }
+
+            if (current instanceof List && current.size() == saved.size()) {
+                List<Object> list = (List<Object>) current;
+                for (int i = 0; i < saved.size(); i++) {
+                    list.set(i, saved.get(i));
+                }
+                return;
+            }
+
+            current.clear();
+            current.addAll(saved);
+        }
+
+        private static void reset(Map<Object, Object> current, Map<Object, Object> saved) {
+            if (current.size() == saved.size() && isSame(current.entrySet().iterator(), saved.entrySet().iterator())) {
+                return;
+            }
+
+            current.clear();
+            current.putAll(saved);
+        }
+
+        private static boolean isSame(Iterator<?> current, Iterator<?> saved) {
+            while (current.hasNext() && saved.hasNext()) {
+                Object actual = current.next();
+                Object expected = saved.next();
+
+                if (actual instanceof Map.Entry && expected instanceof Map.Entry) {
+                    Map.Entry<?, ?> actualEntry = (Map.Entry<?, ?>) actual;
+                    Map.Entry<?, ?> expectedEntry = (Map.Entry<?, ?>) expected;
+                    if (actualEntry.getKey() != expectedEntry.getKey() || actualEntry.getValue() != expectedEntry.getValue()) {
+                        return false;
+                    }
+                } else if (actual != expected) {
+                    return false;
+                }
+            }
+            return !current.hasNext() && !saved.hasNext();
+        }
+    }
+}
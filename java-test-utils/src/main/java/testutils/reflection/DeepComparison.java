@@ -0,0 +1,499 @@
+package testutils.reflection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+final class DeepComparison {
+
+    static final int PARALLEL_THRESHOLD = 1024;
+    static final int MAX_COMPARED_PAIRS = 1 << 16;
+
+    private final boolean stopAtFirst;
+    private final ForkJoinPool pool;
+    private final DeepComparison outer;
+    private final Set<Pair> path = new HashSet<>();
+    private final Set<Pair> compared = new HashSet<>();
+    private final List<Difference> differences = new ArrayList<>();
+    private final Deque<Frame> pending = new ArrayDeque<>();
+
+    private DeepComparison(boolean stopAtFirst, ForkJoinPool pool, DeepComparison outer) {
+        this.stopAtFirst = stopAtFirst;
+        this.pool = pool;
+        this.outer = outer;
+    }
+
+    static boolean equals(Object expected, Object actual) throws ReflectionException {
+        return new DeepComparison(true, null, null).compare(expected, actual).isEmpty();
+    }
+
+    static List<Difference> diff(Object expected, Object actual) throws ReflectionException {
+        return new DeepComparison(false, null, null).compare(expected, actual);
+    }
+
+    static List<Difference> diff(Object expected, Object actual, ForkJoinPool pool) throws ReflectionException {
+        return new DeepComparison(false, pool, null).compare(expected, actual);
+    }
+
+    private List<Difference> compare(Object expected, Object actual) throws ReflectionException {
+        pending.push(new Frame(null, null, -1, null, expected, actual));
+        return run();
+    }
+
+    private List<Difference> run() throws ReflectionException {
+        try {
+            while (!pending.isEmpty()) {
+                Frame frame = pending.pop();
+                if (frame.exit != null) {
+                    leave(frame.exit);
+                } else if (!compareFrame(frame) && stopAtFirst) {
+                    break;
+                }
+            }
+        } catch (ReflectionException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+
+        return differences;
+    }
+
+    private boolean compareFrame(Frame frame) throws Throwable {
+        Object expected = frame.expected;
+        Object actual = frame.actual;
+
+        if (expected == actual) {
+            return true;
+        }
+
+        if (expected == null || actual == null) {
+            return differ(frame, expected, actual);
+        }
+
+        Class<?> type = expected.getClass();
+        boolean list = expected instanceof List && actual instanceof List;
+        boolean map = expected instanceof Map && actual instanceof Map;
+        boolean collection = expected instanceof Collection && actual instanceof Collection;
+
+        if (!list && !map && !collection && type != actual.getClass()) {
+            return differ(frame, expected, actual);
+        }
+
+        ComparisonPlan plan = null;
+        if (!list && !map && !collection && !type.isArray()) {
+            plan = ComparisonPlan.of(type);
+            if (plan.isValue()) {
+                return expected.equals(actual) || differ(frame, expected, actual);
+            }
+        }
+
+        Pair pair = new Pair(expected, actual);
+        if (isVisited(pair)) {
+            return true;
+        }
+        path.add(pair);
+        pending.push(new Frame(pair));
+
+        if (list) {
+            return compareLists(frame, (List<?>) expected, (List<?>) actual);
+        }
+
+        if (map) {
+            return compareMaps(frame, (Map<?, ?>) expected, (Map<?, ?>) actual);
+        }
+
+        if (collection) {
+            return compareCollections(frame, (Collection<?>) expected, (Collection<?>) actual);
+        }
+
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive()
+                    ? comparePrimitiveArrays(frame, expected, actual)
+                    : compareElements(frame, Arrays.asList((Object[]) expected), Arrays.asList((Object[]) actual), "length");
+        }
+
+        return compareFields(frame, plan, expected, actual);
+    }
+
+    private boolean compareFields(Frame frame, ComparisonPlan plan, Object expected, Object actual) throws Throwable {
+        boolean equal = true;
+
+        for (int i = 0; i < plan.primitiveCount(); i++) {
+            if (!plan.primitiveEquals(i, expected, actual)) {
+                equal = differ(new Frame(frame, plan.primitiveName(i), -1, null, null, null), plan.primitiveValue(i, expected), plan.primitiveValue(i, actual));
+                if (stopAtFirst) {
+                    return false;
+                }
+            }
+        }
+
+        for (int i = plan.referenceCount() - 1; i >= 0; i--) {
+            pending.push(new Frame(frame, plan.referenceName(i), -1, null, plan.referenceValue(i, expected), plan.referenceValue(i, actual)));
+        }
+
+        return equal;
+    }
+
+    private boolean compareLists(Frame frame, List<?> expected, List<?> actual) {
+        if (expected instanceof RandomAccess && actual instanceof RandomAccess) {
+            return compareElements(frame, expected, actual, "size()");
+        }
+
+        if (expected.size() != actual.size()) {
+            return differ(new Frame(frame, "size()", -1, null, null, null), expected.size(), actual.size());
+        }
+
+        pushInOrder(frame, expected, actual);
+        return true;
+    }
+
+    private boolean compareCollections(Frame frame, Collection<?> expected, Collection<?> actual) throws ReflectionException {
+        if (expected.size() != actual.size()) {
+            return differ(new Frame(frame, "size()", -1, null, null, null), expected.size(), actual.size());
+        }
+
+        if (expected instanceof Set && actual instanceof Set) {
+            return (hasOnlyValues(expected) && actual.containsAll(expected)) || compareSets(frame, expected, actual);
+        }
+
+        pushInOrder(frame, expected, actual);
+        return true;
+    }
+
+    private boolean compareSets(Frame frame, Collection<?> expected, Collection<?> actual) throws ReflectionException {
+        List<Object> unmatched = new ArrayList<>(actual);
+        List<Object> missing = new ArrayList<>();
+
+        for (Object element : expected) {
+            if (!(isValue(element) && actual.contains(element) && unmatched.remove(element)) && !removeDeepEqual(unmatched, element)) {
+                missing.add(element);
+            }
+        }
+
+        boolean equal = true;
+        for (Object element : missing) {
+            equal = differ(new Frame(frame, null, -1, element, null, null), element, null);
+            if (stopAtFirst) {
+                return false;
+            }
+        }
+
+        for (Object element : unmatched) {
+            equal = differ(new Frame(frame, null, -1, element, null, null), null, element);
+            if (stopAtFirst) {
+                return false;
+            }
+        }
+
+        return equal;
+    }
+
+    private static boolean hasOnlyValues(Collection<?> elements) {
+        for (Object element : elements) {
+            if (!isValue(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValue(Object element) {
+        return element != null && !element.getClass().isArray() && ComparisonPlan.of(element.getClass()).isValue();
+    }
+
+    private boolean removeDeepEqual(List<Object> candidates, Object element) throws ReflectionException {
+        for (Iterator<Object> iterator = candidates.iterator(); iterator.hasNext(); ) {
+            DeepComparison comparison = new DeepComparison(true, null, this);
+            comparison.pending.push(new Frame(null, null, -1, null, element, iterator.next()));
+            if (comparison.run().isEmpty()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void pushInOrder(Frame frame, Collection<?> expected, Collection<?> actual) {
+        List<Frame> elements = new ArrayList<>(expected.size());
+        Iterator<?> expectedElements = expected.iterator();
+        Iterator<?> actualElements = actual.iterator();
+
+        for (int i = 0; expectedElements.hasNext() && actualElements.hasNext(); i++) {
+            elements.add(new Frame(frame, null, i, null, expectedElements.next(), actualElements.next()));
+        }
+
+        for (int i = elements.size() - 1; i >= 0; i--) {
+            pending.push(elements.get(i));
+        }
+    }
+
+    private boolean compareElements(Frame frame, List<?> expected, List<?> actual, String sizeName) {
+        if (expected.size() != actual.size()) {
+            return differ(new Frame(frame, sizeName, -1, null, null, null), expected.size(), actual.size());
+        }
+
+        if (pool != null && expected.size() >= PARALLEL_THRESHOLD) {
+            ElementsTask task = new ElementsTask(this, frame, expected, actual, 0, expected.size());
+            differences.addAll(ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task));
+            return true;
+        }
+
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            pending.push(new Frame(frame, null, i, null, expected.get(i), actual.get(i)));
+        }
+
+        return true;
+    }
+
+    private boolean compareMaps(Frame frame, Map<?, ?> expected, Map<?, ?> actual) {
+        boolean equal = true;
+
+        if (expected.size() != actual.size()) {
+            equal = differ(new Frame(frame, "size()", -1, null, null, null), expected.size(), actual.size());
+            if (stopAtFirst) {
+                return false;
+            }
+        }
+
+        List<Frame> entries = new ArrayList<>(expected.size());
+        for (Map.Entry<?, ?> entry : expected.entrySet()) {
+            Object key = entry.getKey();
+            if (actual.containsKey(key)) {
+                entries.add(new Frame(frame, null, -1, key, entry.getValue(), actual.get(key)));
+            } else {
+                equal = differ(new Frame(frame, null, -1, key, null, null), entry.getValue(), null);
+                if (stopAtFirst) {
+                    return false;
+                }
+            }
+        }
+
+        for (Map.Entry<?, ?> entry : actual.entrySet()) {
+            if (!expected.containsKey(entry.getKey())) {
+                equal = differ(new Frame(frame, null, -1, entry.getKey(), null, null), null, entry.getValue());
+                if (stopAtFirst) {
+                    return false;
+                }
+            }
+        }
+
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            pending.push(entries.get(i));
+        }
+
+        return equal;
+    }
+
+    private boolean comparePrimitiveArrays(Frame frame, Object expected, Object actual) {
+        int length = java.lang.reflect.Array.getLength(expected);
+
+        if (length != java.lang.reflect.Array.getLength(actual)) {
+            return differ(new Frame(frame, "length", -1, null, null, null), length, java.lang.reflect.Array.getLength(actual));
+        }
+
+        boolean equal = true;
+        for (int from = 0; from < length; ) {
+            int mismatch = mismatch(expected, actual, from, length);
+            if (mismatch < 0) {
+                break;
+            }
+
+            int index = from + mismatch;
+            equal = differ(new Frame(frame, null, index, null, null, null), java.lang.reflect.Array.get(expected, index), java.lang.reflect.Array.get(actual, index));
+            if (stopAtFirst) {
+                return false;
+            }
+            from = index + 1;
+        }
+
+        return equal;
+    }
+
+    private static int mismatch(Object expected, Object actual, int from, int to) {
+        if (expected instanceof int[]) {
+            return Arrays.mismatch((int[]) expected, from, to, (int[]) actual, from, to);
+        }
+        if (expected instanceof long[]) {
+            return Arrays.mismatch((long[]) expected, from, to, (long[]) actual, from, to);
+        }
+        if (expected instanceof double[]) {
+            return Arrays.mismatch((double[]) expected, from, to, (double[]) actual, from, to);
+        }
+        if (expected instanceof byte[]) {
+            return Arrays.mismatch((byte[]) expected, from, to, (byte[]) actual, from, to);
+        }
+        if (expected instanceof char[]) {
+            return Arrays.mismatch((char[]) expected, from, to, (char[]) actual, from, to);
+        }
+        if (expected instanceof boolean[]) {
+            return Arrays.mismatch((boolean[]) expected, from, to, (boolean[]) actual, from, to);
+        }
+        if (expected instanceof float[]) {
+            return Arrays.mismatch((float[]) expected, from, to, (float[]) actual, from, to);
+        }
+        return Arrays.mismatch((short[]) expected, from, to, (short[]) actual, from, to);
+    }
+
+    private boolean isVisited(Pair pair) {
+        for (DeepComparison comparison = this; comparison != null; comparison = comparison.outer) {
+            if (comparison.path.contains(pair) || comparison.compared.contains(pair)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void leave(Pair pair) {
+        path.remove(pair);
+        if (compared.size() < MAX_COMPARED_PAIRS) {
+            compared.add(pair);
+        }
+    }
+
+    private boolean differ(Frame frame, Object expected, Object actual) {
+        differences.add(new Difference(frame.path(), expected, actual));
+        return false;
+    }
+
+    private static final class ElementsTask extends RecursiveTask<List<Difference>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DeepComparison parent;
+        private final Frame frame;
+        private final List<?> expected;
+        private final List<?> actual;
+        private final int from;
+        private final int to;
+
+        private ElementsTask(DeepComparison parent, Frame frame, List<?> expected, List<?> actual, int from, int to) {
+            this.parent = parent;
+            this.frame = frame;
+            this.expected = expected;
+            this.actual = actual;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Difference> compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                ElementsTask left = new ElementsTask(parent, frame, expected, actual, from, middle);
+                ElementsTask right = new ElementsTask(parent, frame, expected, actual, middle, to);
+                invokeAll(left, right);
+
+                List<Difference> differences = new ArrayList<>(left.join());
+                differences.addAll(right.join());
+                return differences;
+            }
+
+            DeepComparison comparison = new DeepComparison(false, parent.pool, parent);
+            for (int i = to - 1; i >= from; i--) {
+                comparison.pending.push(new Frame(frame, null, i, null, expected.get(i), actual.get(i)));
+            }
+
+            try {
+                return comparison.run();
+            } catch (ReflectionException e) {
+                completeExceptionally(e);
+                return null;
+            }
+        }
+    }
+
+    private static final class Frame {
+
+        private final Frame parent;
+        private final String name;
+        private final int index;
+        private final Object key;
+        private final Object expected;
+        private final Object actual;
+        private final Pair exit;
+
+        private Frame(Frame parent, String name, int index, Object key, Object expected, Object actual) {
+            this.parent = parent;
+            this.name = name;
+            this.index = index;
+            this.key = key;
+            this.expected = expected;
+            this.actual = actual;
+            this.exit = null;
+        }
+
+        private Frame(Pair exit) {
+            this.parent = null;
+            this.name = null;
+            this.index = -1;
+            this.key = null;
+            this.expected = null;
+            this.actual = null;
+            this.exit = exit;
+        }
+
+        private String path() {
+            Deque<Frame> frames = new ArrayDeque<>();
+            for (Frame current = this; current != null && current.parent != null; current = current.parent) {
+                frames.push(current);
+            }
+
+            StringBuilder path = new StringBuilder();
+            for (Frame current : frames) {
+                if (current.name != null) {
+                    if (path.length() > 0) {
+                        path.append('.');
+                    }
+                    path.append(current.name);
+                } else if (current.index >= 0) {
+                    path.append('[').append(current.index).append(']');
+                } else {
+                    path.append('[').append(current.key).append(']');
+                }
+            }
+            return path.toString();
+        }
+    }
+
+    private static final class Pair {
+
+        private final Object expected;
+        private final Object actual;
+
+        private Pair(Object expected, Object actual) {
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof Pair)) {
+                return false;
+            }
+
+            Pair pair = (Pair) other;
+            return expected == pair.expected && actual == pair.actual;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(expected) + System.identityHashCode(actual);
+        }
+    }
+}
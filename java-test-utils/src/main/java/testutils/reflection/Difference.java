@@ -0,0 +1,31 @@
+package testutils.reflection;
+
+public final class Difference {
+
+    private final String path;
+    private final Object expected;
+    private final Object actual;
+
+    Difference(String path, Object expected, Object actual) {
+        this.path = path;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Object getExpected() {
+        return expected;
+    }
+
+    public Object getActual() {
+        return actual;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: expected <%s> but was <%s>", path.isEmpty() ? "<root>" : path, expected, actual);
+    }
+}
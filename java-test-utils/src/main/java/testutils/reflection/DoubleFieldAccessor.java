@@ -0,0 +1,8 @@
+package testutils.reflection;
+
+public interface DoubleFieldAccessor<T> {
+
+    double get(T affectedObject) throws ReflectionException;
+
+    void set(T affectedObject, double newValue) throws ReflectionException;
+}
@@ -0,0 +1,8 @@
+package testutils.reflection;
+
+public interface FieldAccessor<T, V> {
+
+    V get(T affectedObject) throws ReflectionException;
+
+    void set(T affectedObject, V newValue) throws ReflectionException;
+}
@@ -0,0 +1,27 @@
+package testutils.reflection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("testutils.FieldAccessorCreation")
+@Label("Test Utils Field Accessor Creation")
+@Description("Creation of the cached method handles used to read and write a field")
+@Category({"java-test-utils", "Reflection"})
+@Enabled(false)
+@StackTrace(false)
+final class FieldAccessorEvent extends Event {
+
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Field")
+    String field;
+
+    @Label("Var Handle")
+    boolean varHandle;
+}
@@ -0,0 +1,37 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+final class FieldCache {
+
+    private static final ClassValue<Map<String, Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            Metrics.cacheMiss(Cache.FIELDS);
+            Class<?> superclass = type.getSuperclass();
+            Map<String, Field> fields = superclass == null ? new HashMap<>() : new HashMap<>(FIELDS.get(superclass));
+
+            for (Field field : type.getDeclaredFields()) {
+                field.trySetAccessible();
+                fields.put(field.getName(), field);
+            }
+
+            return Collections.unmodifiableMap(fields);
+        }
+    };
+
+    private FieldCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Field find(Class<?> type, String fieldName) {
+        Metrics.cacheLookup(Cache.FIELDS);
+        return FIELDS.get(type).get(fieldName);
+    }
+}
@@ -0,0 +1,272 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class FieldHandle {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, FieldHandle>> HANDLES = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, FieldHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+    private final MethodHandle exactGetter;
+    private final MethodHandle exactSetter;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final IllegalAccessException getterFailure;
+    private final IllegalAccessException setterFailure;
+
+    private FieldHandle(Field field, MethodHandle exactGetter, IllegalAccessException getterFailure, MethodHandle exactSetter, IllegalAccessException setterFailure) {
+        this.field = field;
+        this.exactGetter = exactGetter;
+        this.exactSetter = exactSetter;
+        this.getter = exactGetter == null ? null : exactGetter.asType(GETTER_TYPE);
+        this.setter = exactSetter == null ? null : exactSetter.asType(SETTER_TYPE);
+        this.getterFailure = getterFailure;
+        this.setterFailure = setterFailure;
+    }
+
+    static FieldHandle of(Field field) {
+        FieldHandle handle = HANDLES.get(field.getDeclaringClass()).get(field.getName());
+        Metrics.cacheLookup(Cache.FIELD_HANDLES);
+
+        if (handle == null) {
+            handle = HANDLES.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), name -> create(field));
+        }
+
+        return handle;
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    MethodHandle getExactGetter() {
+        return exactGetter;
+    }
+
+    MethodHandle getGetter() {
+        return getter;
+    }
+
+    boolean isReadable() {
+        return exactGetter != null;
+    }
+
+    boolean isWritable() {
+        return exactSetter != null;
+    }
+
+    void requireType(Class<?> expectedType) throws ReflectionException {
+        if (field.getType() != expectedType) {
+            throw new ReflectionException(String.format("Field %s is of type %s, not %s", field.getName(), field.getType().getName(), expectedType.getName()));
+        }
+    }
+
+    Object get(Object affectedObject) throws ReflectionException {
+        requireGetter();
+
+        try {
+            return (Object) getter.invokeExact(affectedObject);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    void set(Object affectedObject, Object newValue) throws ReflectionException {
+        requireSetter();
+
+        try {
+            setter.invokeExact(affectedObject, newValue);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    int getInt(Object affectedObject) throws ReflectionException {
+        requireType(int.class);
+        requireGetter();
+
+        try {
+            return (int) exactGetter.invokeExact(affectedObject);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    void setInt(Object affectedObject, int newValue) throws ReflectionException {
+        requireType(int.class);
+        requireSetter();
+
+        try {
+            exactSetter.invokeExact(affectedObject, newValue);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    long getLong(Object affectedObject) throws ReflectionException {
+        requireType(long.class);
+        requireGetter();
+
+        try {
+            return (long) exactGetter.invokeExact(affectedObject);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    void setLong(Object affectedObject, long newValue) throws ReflectionException {
+        requireType(long.class);
+        requireSetter();
+
+        try {
+            exactSetter.invokeExact(affectedObject, newValue);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    double getDouble(Object affectedObject) throws ReflectionException {
+        requireType(double.class);
+        requireGetter();
+
+        try {
+            return (double) exactGetter.invokeExact(affectedObject);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    void setDouble(Object affectedObject, double newValue) throws ReflectionException {
+        requireType(double.class);
+        requireSetter();
+
+        try {
+            exactSetter.invokeExact(affectedObject, newValue);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    private void requireGetter() throws ReflectionException {
+        if (exactGetter == null) {
+            throw new ReflectionException(getterFailure);
+        }
+    }
+
+    private void requireSetter() throws ReflectionException {
+        if (exactSetter == null) {
+            throw new ReflectionException(setterFailure);
+        }
+    }
+
+    private static FieldHandle create(Field requested) {
+        Metrics.cacheMiss(Cache.FIELD_HANDLES);
+        FieldAccessorEvent event = new FieldAccessorEvent();
+        event.begin();
+
+        Field field = FieldCache.find(requested.getDeclaringClass(), requested.getName());
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        boolean isFinal = Modifier.isFinal(field.getModifiers());
+
+        MethodHandle getter = null;
+        MethodHandle setter = null;
+        IllegalAccessException getterFailure = null;
+        IllegalAccessException setterFailure = null;
+
+        MethodHandles.Lookup lookup;
+        VarHandle varHandle;
+        try {
+            lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            varHandle = lookup.unreflectVarHandle(field);
+        } catch (IllegalAccessException e) {
+            lookup = MethodHandles.lookup();
+            varHandle = null;
+        }
+
+        try {
+            getter = varHandle == null ? lookup.unreflectGetter(field) : varHandle.toMethodHandle(VarHandle.AccessMode.GET);
+        } catch (IllegalAccessException e) {
+            getterFailure = e;
+        }
+
+        if (isStatic && isFinal) {
+            setterFailure = new IllegalAccessException("Can not set static final field: " + field);
+        } else {
+            try {
+                setter = varHandle == null || isFinal ? lookup.unreflectSetter(field) : varHandle.toMethodHandle(VarHandle.AccessMode.SET);
+            } catch (IllegalAccessException e) {
+                setterFailure = e;
+            }
+        }
+
+        FieldHandle handle = new FieldHandle(field, adaptGetter(getter, field.getType(), isStatic), getterFailure, adaptSetter(setter, field.getType(), isStatic), setterFailure);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = field.getDeclaringClass();
+            event.field = field.getName();
+            event.varHandle = varHandle != null;
+            event.commit();
+        }
+
+        return handle;
+    }
+
+    private static MethodHandle adaptGetter(MethodHandle getter, Class<?> fieldType, boolean isStatic) {
+        if (getter == null) {
+            return null;
+        }
+
+        if (isStatic) {
+            return MethodHandles.dropArguments(getter, 0, Object.class);
+        }
+
+        return getter.asType(MethodType.methodType(fieldType, Object.class));
+    }
+
+    private static MethodHandle adaptSetter(MethodHandle setter, Class<?> fieldType, boolean isStatic) {
+        if (setter == null) {
+            return null;
+        }
+
+        if (isStatic) {
+            return MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+
+        return setter.asType(MethodType.methodType(void.class, Object.class, fieldType));
+    }
+}
@@ -0,0 +1,336 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class FieldPath {
+
+    private static final String INVALID_PATH = "Invalid path: ";
+    private static final int MAX_SHAPES = 1_024;
+    private static final int[] NO_INDICES = new int[0];
+    private static final ConcurrentMap<String, FieldPath> SHAPES = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final Step[] steps;
+    private final int[] indices;
+
+    private FieldPath(String path, Step[] steps, int[] indices) {
+        this.path = path;
+        this.steps = steps;
+        this.indices = indices;
+    }
+
+    static FieldPath of(String path) throws ReflectionException {
+        if (path.indexOf('[') < 0) {
+            return shape(path, path);
+        }
+
+        int count = 0;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '[') {
+                count++;
+            }
+        }
+
+        int[] indices = new int[count];
+        StringBuilder shape = new StringBuilder(path.length());
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            int start = path.indexOf('[', position);
+            int end = path.indexOf(']', start);
+            if (end < 0) {
+                throw new ReflectionException(INVALID_PATH, path);
+            }
+
+            indices[i] = parseIndex(path, start + 1, end);
+            shape.append(path, position, start + 1);
+            position = end;
+        }
+        shape.append(path, position, path.length());
+
+        return new FieldPath(path, shape(shape.toString(), path).steps, indices);
+    }
+
+    private static FieldPath shape(String shape, String path) throws ReflectionException {
+        Metrics.cacheLookup(Cache.FIELD_PATHS);
+        FieldPath fieldPath = SHAPES.get(shape);
+
+        if (fieldPath == null) {
+            Metrics.cacheMiss(Cache.FIELD_PATHS);
+            fieldPath = new FieldPath(shape, compile(shape, path), NO_INDICES);
+            if (SHAPES.size() < MAX_SHAPES) {
+                FieldPath cached = SHAPES.putIfAbsent(shape, fieldPath);
+                if (cached != null) {
+                    fieldPath = cached;
+                }
+            }
+        }
+
+        return fieldPath;
+    }
+
+    static int shapeCount() {
+        return SHAPES.size();
+    }
+
+    Object get(Object root) throws ReflectionException {
+        Object current = root;
+
+        for (int i = 0; i < steps.length; i++) {
+            current = steps[i].get(requireValue(current, i), indices);
+        }
+
+        return current;
+    }
+
+    void set(Object root, Object newValue) throws ReflectionException {
+        Object current = root;
+        int last = steps.length - 1;
+
+        for (int i = 0; i < last; i++) {
+            current = steps[i].get(requireValue(current, i), indices);
+        }
+
+        steps[last].set(requireValue(current, last), indices, newValue);
+    }
+
+    private Object requireValue(Object value, int step) throws ReflectionException {
+        if (value == null) {
+            throw new ReflectionException("Null value at path: ", step == 0 ? "<root>" : prefix(step));
+        }
+
+        return value;
+    }
+
+    private String prefix(int step) {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < step; i++) {
+            steps[i].appendTo(prefix, indices);
+        }
+        return prefix.toString();
+    }
+
+    private static Step[] compile(String shape, String path) throws ReflectionException {
+        if (shape.isEmpty()) {
+            throw new ReflectionException(INVALID_PATH, path);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        int position = 0;
+        int slot = 0;
+        boolean expectField = shape.charAt(0) != '[';
+
+        while (position < shape.length()) {
+            char current = shape.charAt(position);
+
+            if (current == '[') {
+                if (position + 1 >= shape.length() || shape.charAt(position + 1) != ']') {
+                    throw new ReflectionException(INVALID_PATH, path);
+                }
+
+                steps.add(new IndexStep(slot++));
+                position += 2;
+                expectField = false;
+            } else if (current == '.' && !expectField) {
+                position++;
+                expectField = true;
+            } else if (expectField) {
+                int end = position;
+                while (end < shape.length() && shape.charAt(end) != '.' && shape.charAt(end) != '[') {
+                    end++;
+                }
+
+                if (end == position) {
+                    throw new ReflectionException(INVALID_PATH, path);
+                }
+
+                steps.add(new FieldStep(shape.substring(position, end)));
+                position = end;
+                expectField = false;
+            } else {
+                throw new ReflectionException(INVALID_PATH, path);
+            }
+        }
+
+        if (expectField) {
+            throw new ReflectionException(INVALID_PATH, path);
+        }
+
+        return steps.toArray(new Step[0]);
+    }
+
+    private static int parseIndex(String path, int start, int end) throws ReflectionException {
+        if (start == end) {
+            throw new ReflectionException(INVALID_PATH, path);
+        }
+
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char digit = path.charAt(i);
+            if (digit < '0' || digit > '9' || index > (Integer.MAX_VALUE - 9) / 10) {
+                throw new ReflectionException(INVALID_PATH, path);
+            }
+            index = index * 10 + (digit - '0');
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private abstract static class Step {
+
+        abstract Object get(Object target, int[] indices) throws ReflectionException;
+
+        abstract void set(Object target, int[] indices, Object newValue) throws ReflectionException;
+
+        abstract void appendTo(StringBuilder path, int[] indices);
+    }
+
+    private static final class FieldStep extends Step {
+
+        private final String fieldName;
+        private final ClassValue<FieldHandle> handles = new ClassValue<>() {
+            @Override
+            protected FieldHandle computeValue(Class<?> type) {
+                Field field = FieldCache.find(type, fieldName);
+                return field == null ? null : FieldHandle.of(field);
+            }
+        };
+
+        private FieldStep(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        Object get(Object target, int[] indices) throws ReflectionException {
+            return handle(target.getClass()).get(target);
+        }
+
+        @Override
+        void set(Object target, int[] indices, Object newValue) throws ReflectionException {
+            handle(target.getClass()).set(target, newValue);
+        }
+
+        @Override
+        void appendTo(StringBuilder path, int[] indices) {
+            if (path.length() > 0) {
+                path.append('.');
+            }
+            path.append(fieldName);
+        }
+
+        private FieldHandle handle(Class<?> type) throws ReflectionException {
+            FieldHandle handle = handles.get(type);
+            if (handle == null) {
+                throw new ReflectionException("No such field: ", fieldName);
+            }
+
+            return handle;
+        }
+    }
+
+    private static final class IndexStep extends Step {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class, int.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, int.class, Object.class);
+        private static final ClassValue<ArrayAccess> ACCESSES = new ClassValue<>() {
+            @Override
+            protected ArrayAccess computeValue(Class<?> type) {
+                if (!type.isArray()) {
+                    return null;
+                }
+
+                VarHandle element = MethodHandles.arrayElementVarHandle(type);
+                return new ArrayAccess(
+                        element.toMethodHandle(VarHandle.AccessMode.GET).asType(GETTER_TYPE),
+                        element.toMethodHandle(VarHandle.AccessMode.SET).asType(SETTER_TYPE));
+            }
+        };
+
+        private final int slot;
+
+        private IndexStep(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        Object get(Object target, int[] indices) throws ReflectionException {
+            int index = indices[slot];
+            if (target instanceof List) {
+                try {
+                    return ((List<?>) target).get(index);
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ReflectionException(e);
+                }
+            }
+
+            try {
+                return (Object) access(target.getClass()).getter.invokeExact(target, index);
+            } catch (ReflectionException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new ReflectionException(throwable);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object target, int[] indices, Object newValue) throws ReflectionException {
+            int index = indices[slot];
+            if (target instanceof List) {
+                try {
+                    ((List<Object>) target).set(index, newValue);
+                    return;
+                } catch (IndexOutOfBoundsException | UnsupportedOperationException | ClassCastException e) {
+                    throw new ReflectionException(e);
+                }
+            }
+
+            try {
+                access(target.getClass()).setter.invokeExact(target, index, newValue);
+            } catch (ReflectionException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new ReflectionException(throwable);
+            }
+        }
+
+        @Override
+        void appendTo(StringBuilder path, int[] indices) {
+            path.append('[').append(indices[slot]).append(']');
+        }
+
+        private static ArrayAccess access(Class<?> type) throws ReflectionException {
+            ArrayAccess access = ACCESSES.get(type);
+            if (access == null) {
+                throw new ReflectionException(String.format("Type %s is not an array or list", type.getName()));
+            }
+
+            return access;
+        }
+    }
+
+    private static final class ArrayAccess {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private ArrayAccess(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
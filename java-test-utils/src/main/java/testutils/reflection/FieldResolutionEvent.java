@@ -0,0 +1,33 @@
+package testutils.reflection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("testutils.FieldResolution")
+@Label("Test Utils Field Resolution")
+@Description("Lookup of a field by name in the class hierarchy")
+@Category({"java-test-utils", "Reflection"})
+@Enabled(false)
+@StackTrace(false)
+final class FieldResolutionEvent extends Event {
+
+    private static final FieldResolutionEvent PROBE = new FieldResolutionEvent();
+
+    @Label("Class")
+    Class<?> type;
+
+    @Label("Field")
+    String field;
+
+    @Label("Found")
+    boolean found;
+
+    static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+}
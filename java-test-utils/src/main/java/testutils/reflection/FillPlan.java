@@ -0,0 +1,72 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class FillPlan {
+
+    private static final ClassValue<FillPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected FillPlan computeValue(Class<?> type) {
+            Metrics.cacheMiss(Cache.FILL_PLANS);
+            return compile(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final FieldHandle[] handles;
+    private final ValueGenerator[] generators;
+
+    private FillPlan(Class<?> type, FieldHandle[] handles, ValueGenerator[] generators) {
+        this.type = type;
+        this.handles = handles;
+        this.generators = generators;
+    }
+
+    static FillPlan of(Class<?> type) {
+        Metrics.cacheLookup(Cache.FILL_PLANS);
+        return PLANS.get(type);
+    }
+
+    Object create(SplittableRandom random, RandomPopulator populator, int depth) throws ReflectionException {
+        Object target = InstanceFactory.of(type).newInstance();
+        fill(target, random, populator, depth);
+        return target;
+    }
+
+    void fill(Object target, SplittableRandom random, RandomPopulator populator, int depth) throws ReflectionException {
+        for (int i = 0; i < handles.length; i++) {
+            Object value = generators[i].generate(random, populator, depth);
+            if (value != null || !handles[i].getField().getType().isPrimitive()) {
+                handles[i].set(target, value);
+            }
+        }
+    }
+
+    private static FillPlan compile(Class<?> type) {
+        List<FieldHandle> handles = new ArrayList<>();
+        List<ValueGenerator> generators = new ArrayList<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                FieldHandle handle = FieldHandle.of(field);
+                if (handle.isWritable()) {
+                    handles.add(handle);
+                    generators.add(ValueGenerators.of(field.getGenericType(), field.getAnnotations()));
+                }
+            }
+        }
+
+        return new FillPlan(type, handles.toArray(new FieldHandle[0]), generators.toArray(new ValueGenerator[0]));
+    }
+}
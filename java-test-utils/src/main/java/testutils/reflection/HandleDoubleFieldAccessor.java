@@ -0,0 +1,25 @@
+package testutils.reflection;
+
+final class HandleDoubleFieldAccessor<T> implements DoubleFieldAccessor<T> {
+
+    private final FieldHandle handle;
+
+    HandleDoubleFieldAccessor(FieldHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public double get(T affectedObject) throws ReflectionException {
+        return handle.getDouble(affectedObject);
+    }
+
+    @Override
+    public void set(T affectedObject, double newValue) throws ReflectionException {
+        handle.setDouble(affectedObject, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleFieldAccessor[" + handle.getField() + "]";
+    }
+}
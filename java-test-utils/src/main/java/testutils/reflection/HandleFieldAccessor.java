@@ -0,0 +1,26 @@
+package testutils.reflection;
+
+final class HandleFieldAccessor<T, V> implements FieldAccessor<T, V> {
+
+    private final FieldHandle handle;
+
+    HandleFieldAccessor(FieldHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(T affectedObject) throws ReflectionException {
+        return (V) handle.get(affectedObject);
+    }
+
+    @Override
+    public void set(T affectedObject, V newValue) throws ReflectionException {
+        handle.set(affectedObject, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldAccessor[" + handle.getField() + "]";
+    }
+}
@@ -0,0 +1,25 @@
+package testutils.reflection;
+
+final class HandleIntFieldAccessor<T> implements IntFieldAccessor<T> {
+
+    private final FieldHandle handle;
+
+    HandleIntFieldAccessor(FieldHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public int get(T affectedObject) throws ReflectionException {
+        return handle.getInt(affectedObject);
+    }
+
+    @Override
+    public void set(T affectedObject, int newValue) throws ReflectionException {
+        handle.setInt(affectedObject, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return "IntFieldAccessor[" + handle.getField() + "]";
+    }
+}
@@ -0,0 +1,25 @@
+package testutils.reflection;
+
+final class HandleLongFieldAccessor<T> implements LongFieldAccessor<T> {
+
+    private final FieldHandle handle;
+
+    HandleLongFieldAccessor(FieldHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public long get(T affectedObject) throws ReflectionException {
+        return handle.getLong(affectedObject);
+    }
+
+    @Override
+    public void set(T affectedObject, long newValue) throws ReflectionException {
+        handle.setLong(affectedObject, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return "LongFieldAccessor[" + handle.getField() + "]";
+    }
+}
@@ -0,0 +1,109 @@
+package testutils.reflection;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class HierarchySpliterator<M> implements Spliterator<M> {
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+
+    private final Class<?>[] classes;
+    private final Function<Class<?>, M[]> members;
+    private int classIndex;
+    private int memberIndex;
+    private final int classFence;
+    private int memberFence;
+
+    HierarchySpliterator(Class<?>[] classes, Function<Class<?>, M[]> members) {
+        this(classes, members, 0, 0, classes.length, 0);
+    }
+
+    private HierarchySpliterator(Class<?>[] classes, Function<Class<?>, M[]> members, int classIndex, int memberIndex, int classFence, int memberFence) {
+        this.classes = classes;
+        this.members = members;
+        this.classIndex = classIndex;
+        this.memberIndex = memberIndex;
+        this.classFence = classFence;
+        this.memberFence = memberFence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super M> action) {
+        while (classIndex < classFence || (classIndex == classFence && memberIndex < memberFence)) {
+            M[] current = members.apply(classes[classIndex]);
+            int limit = classIndex == classFence ? memberFence : current.length;
+
+            if (memberIndex < limit) {
+                action.accept(current[memberIndex++]);
+                return true;
+            }
+
+            classIndex++;
+            memberIndex = 0;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super M> action) {
+        for (; classIndex < classFence; classIndex++, memberIndex = 0) {
+            M[] current = members.apply(classes[classIndex]);
+            for (; memberIndex < current.length; memberIndex++) {
+                action.accept(current[memberIndex]);
+            }
+        }
+
+        if (classIndex == classFence && memberIndex < memberFence) {
+            M[] current = members.apply(classes[classIndex]);
+            for (; memberIndex < memberFence; memberIndex++) {
+                action.accept(current[memberIndex]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<M> trySplit() {
+        if (classFence - classIndex >= 2) {
+            int middle = (classIndex + classFence) >>> 1;
+            HierarchySpliterator<M> prefix = new HierarchySpliterator<>(classes, members, classIndex, memberIndex, middle, 0);
+            classIndex = middle;
+            memberIndex = 0;
+            return prefix;
+        }
+
+        if (classFence - classIndex == 1 && memberFence > 0) {
+            HierarchySpliterator<M> prefix = new HierarchySpliterator<>(classes, members, classIndex, memberIndex, classFence, 0);
+            classIndex = classFence;
+            memberIndex = 0;
+            return prefix;
+        }
+
+        int limit = classIndex == classFence ? memberFence : (classIndex < classes.length ? members.apply(classes[classIndex]).length : 0);
+        if (limit - memberIndex < 2) {
+            return null;
+        }
+
+        int middle = (memberIndex + limit) >>> 1;
+        HierarchySpliterator<M> prefix = new HierarchySpliterator<>(classes, members, classIndex, memberIndex, classIndex, middle);
+        memberIndex = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+
+        for (int i = classIndex; i < classFence; i++) {
+            size += members.apply(classes[i]).length;
+        }
+
+        return size + memberFence - memberIndex;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
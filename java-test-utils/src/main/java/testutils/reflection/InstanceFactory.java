@@ -0,0 +1,80 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+final class InstanceFactory {
+
+    private static final String CANNOT_ALLOCATE = "Cannot allocate: ";
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodHandle ALLOCATE_INSTANCE = allocateInstance();
+
+    private static final ClassValue<InstanceFactory> FACTORIES = new ClassValue<>() {
+        @Override
+        protected InstanceFactory computeValue(Class<?> type) {
+            Metrics.cacheMiss(Cache.INSTANCE_FACTORIES);
+            return create(type);
+        }
+    };
+
+    private final MethodHandle factory;
+    private final String failure;
+
+    private InstanceFactory(MethodHandle factory, String failure) {
+        this.factory = factory;
+        this.failure = failure;
+    }
+
+    static InstanceFactory of(Class<?> type) throws ReflectionException {
+        Metrics.cacheLookup(Cache.INSTANCE_FACTORIES);
+        InstanceFactory factory = FACTORIES.get(type);
+
+        if (factory.failure != null) {
+            throw new ReflectionException(CANNOT_ALLOCATE, factory.failure);
+        }
+
+        return factory;
+    }
+
+    Object newInstance() throws ReflectionException {
+        try {
+            return (Object) factory.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    private static InstanceFactory create(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() || Modifier.isAbstract(type.getModifiers())) {
+            return new InstanceFactory(null, type.getName());
+        }
+
+        if (ALLOCATE_INSTANCE == null) {
+            return new InstanceFactory(null, type.getName() + " (sun.misc.Unsafe is not available)");
+        }
+
+        return new InstanceFactory(MethodHandles.insertArguments(ALLOCATE_INSTANCE, 0, type).asType(FACTORY_TYPE), null);
+    }
+
+    private static MethodHandle allocateInstance() {
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeType, "allocateInstance", MethodType.methodType(Object.class, Class.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package testutils.reflection;
+
+public interface IntFieldAccessor<T> {
+
+    int get(T affectedObject) throws ReflectionException;
+
+    void set(T affectedObject, int newValue) throws ReflectionException;
+}
@@ -0,0 +1,8 @@
+package testutils.reflection;
+
+public interface LongFieldAccessor<T> {
+
+    long get(T affectedObject) throws ReflectionException;
+
+    void set(T affectedObject, long newValue) throws ReflectionException;
+}
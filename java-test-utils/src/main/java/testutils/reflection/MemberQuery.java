@@ -0,0 +1,91 @@
+package testutils.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class MemberQuery<M extends Member & AnnotatedElement> {
+
+    private final Class<?>[] classes;
+    private final Function<Class<?>, M[]> members;
+    private final Predicate<? super M> filter;
+
+    MemberQuery(Class<?>[] classes, Function<Class<?>, M[]> members, Predicate<? super M> filter) {
+        this.classes = classes;
+        this.members = members;
+        this.filter = filter;
+    }
+
+    public MemberQuery<M> named(String name) {
+        return where(member -> member.getName().equals(name));
+    }
+
+    public MemberQuery<M> withModifiers(int modifiers) {
+        return where(member -> (member.getModifiers() & modifiers) == modifiers);
+    }
+
+    public MemberQuery<M> withoutModifiers(int modifiers) {
+        return where(member -> (member.getModifiers() & modifiers) == 0);
+    }
+
+    public MemberQuery<M> annotatedWith(Class<? extends Annotation> annotation) {
+        return where(member -> member.isAnnotationPresent(annotation));
+    }
+
+    public MemberQuery<M> ofType(Class<?> type) {
+        return where(member -> type.isAssignableFrom(typeOf(member)));
+    }
+
+    public MemberQuery<M> where(Predicate<? super M> predicate) {
+        if (filter == null) {
+            return new MemberQuery<>(classes, members, predicate);
+        }
+
+        Predicate<? super M> current = filter;
+        return new MemberQuery<>(classes, members, member -> current.test(member) && predicate.test(member));
+    }
+
+    public Spliterator<M> spliterator() {
+        return filter == null ? new HierarchySpliterator<>(classes, members) : stream().spliterator();
+    }
+
+    public Stream<M> stream() {
+        Stream<M> stream = StreamSupport.stream(new HierarchySpliterator<>(classes, members), false);
+        return filter == null ? stream : stream.filter(filter);
+    }
+
+    public Stream<M> parallelStream() {
+        return stream().parallel();
+    }
+
+    public Optional<M> first() {
+        return stream().findFirst();
+    }
+
+    public List<M> list() {
+        return stream().collect(Collectors.toList());
+    }
+
+    private static Class<?> typeOf(Member member) {
+        if (member instanceof Field) {
+            return ((Field) member).getType();
+        }
+
+        if (member instanceof Method) {
+            return ((Method) member).getReturnType();
+        }
+
+        return ((Constructor<?>) member).getDeclaringClass();
+    }
+}
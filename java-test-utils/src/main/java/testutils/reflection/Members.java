@@ -0,0 +1,104 @@
+package testutils.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class Members {
+
+    private static final ClassValue<Class<?>[]> HIERARCHIES = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> hierarchy = new LinkedHashSet<>();
+            Deque<Class<?>> interfaces = new ArrayDeque<>();
+
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                hierarchy.add(current);
+                interfaces.addAll(List.of(current.getInterfaces()));
+            }
+
+            while (!interfaces.isEmpty()) {
+                Class<?> current = interfaces.poll();
+                if (hierarchy.add(current)) {
+                    interfaces.addAll(List.of(current.getInterfaces()));
+                }
+            }
+
+            return hierarchy.toArray(new Class<?>[0]);
+        }
+    };
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            return withoutSynthetic(type.getDeclaredFields(), new Field[0]);
+        }
+    };
+
+    private static final ClassValue<Method[]> METHODS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            return withoutSynthetic(type.getDeclaredMethods(), new Method[0]);
+        }
+    };
+
+    private static final ClassValue<Constructor<?>[]> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?>[] computeValue(Class<?> type) {
+            return withoutSynthetic(type.getDeclaredConstructors(), new Constructor<?>[0]);
+        }
+    };
+
+    private Members() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static MemberQuery<Field> fields(Class<?>... types) {
+        return new MemberQuery<>(hierarchy(types), FIELDS::get, null);
+    }
+
+    public static MemberQuery<Method> methods(Class<?>... types) {
+        return new MemberQuery<>(hierarchy(types), METHODS::get, null);
+    }
+
+    public static MemberQuery<Constructor<?>> constructors(Class<?>... types) {
+        return new MemberQuery<>(distinct(types), CONSTRUCTORS::get, null);
+    }
+
+    static Class<?>[] hierarchy(Class<?> type) {
+        return HIERARCHIES.get(type);
+    }
+
+    private static Class<?>[] hierarchy(Class<?>[] types) {
+        if (types.length == 1) {
+            return HIERARCHIES.get(types[0]);
+        }
+
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            hierarchy.addAll(List.of(HIERARCHIES.get(type)));
+        }
+        return hierarchy.toArray(new Class<?>[0]);
+    }
+
+    private static Class<?>[] distinct(Class<?>[] types) {
+        return new LinkedHashSet<>(List.of(types)).toArray(new Class<?>[0]);
+    }
+
+    private static <M extends Member> M[] withoutSynthetic(M[] members, M[] empty) {
+        List<M> result = new ArrayList<>(members.length);
+        for (M member : members) {
+            if (!member.isSynthetic()) {
+                result.add(member);
+            }
+        }
+        return result.size() == members.length ? members : result.toArray(empty);
+    }
+}
@@ -0,0 +1,338 @@
+package testutils.reflection;
+
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class MethodInvoker {
+
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final int MAX_OVERLOADS = 16;
+
+    private static final ClassValue<Invokers> INVOKERS = new ClassValue<>() {
+        @Override
+        protected Invokers computeValue(Class<?> type) {
+            return new Invokers();
+        }
+    };
+
+    private final MethodHandle invoker;
+    private final String failure;
+
+    private MethodInvoker(MethodHandle invoker, String failure) {
+        this.invoker = invoker;
+        this.failure = failure;
+    }
+
+    static MethodInvoker method(Class<?> type, String methodName, boolean isStatic, Object[] arguments) throws ReflectionException {
+        Invokers invokers = INVOKERS.get(type);
+        ConcurrentMap<String, Overloads> methods = isStatic ? invokers.staticMethods : invokers.instanceMethods;
+        Overloads overloads = methods.get(methodName);
+        if (overloads == null) {
+            overloads = methods.computeIfAbsent(methodName, name -> new Overloads());
+        }
+
+        MethodInvoker invoker = overloads.find(arguments);
+        Metrics.cacheLookup(Cache.METHOD_INVOKERS);
+
+        if (invoker == null) {
+            Class<?>[] argumentTypes = argumentTypes(arguments);
+            invoker = overloads.add(argumentTypes, resolveMethod(type, new Signature(methodName, isStatic, argumentTypes)));
+        }
+
+        return checked(invoker);
+    }
+
+    static MethodInvoker constructor(Class<?> type, Object[] arguments) throws ReflectionException {
+        Overloads constructors = INVOKERS.get(type).constructors;
+        MethodInvoker invoker = constructors.find(arguments);
+        Metrics.cacheLookup(Cache.METHOD_INVOKERS);
+
+        if (invoker == null) {
+            Class<?>[] argumentTypes = argumentTypes(arguments);
+            invoker = constructors.add(argumentTypes, resolveConstructor(type, new Signature(CONSTRUCTOR_NAME, true, argumentTypes)));
+        }
+
+        return checked(invoker);
+    }
+
+    Object invoke(Object target, Object[] arguments) throws ReflectionException {
+        Object[] spreadArguments = arguments == null ? NO_ARGUMENTS : arguments;
+
+        try {
+            return (Object) invoker.invokeExact(target, spreadArguments);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ReflectionException(throwable);
+        }
+    }
+
+    private static MethodInvoker checked(MethodInvoker invoker) throws ReflectionException {
+        if (invoker.failure != null) {
+            throw new ReflectionException(invoker.failure);
+        }
+
+        return invoker;
+    }
+
+    private static MethodInvoker resolveMethod(Class<?> type, Signature signature) {
+        Metrics.cacheMiss(Cache.METHOD_INVOKERS);
+        List<Executable> candidates = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        collectMethods(type, signature, candidates, seen);
+        return resolve(candidates, "method", signature.toString());
+    }
+
+    private static void collectMethods(Class<?> type, Signature signature, List<Executable> candidates, Set<String> seen) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (isCandidate(method, signature) && seen.add(Arrays.toString(method.getParameterTypes()))) {
+                    candidates.add(method);
+                }
+            }
+
+            for (Class<?> superInterface : current.getInterfaces()) {
+                collectDefaultMethods(superInterface, signature, candidates, seen);
+            }
+        }
+    }
+
+    private static void collectDefaultMethods(Class<?> type, Signature signature, List<Executable> candidates, Set<String> seen) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isDefault() && isCandidate(method, signature) && seen.add(Arrays.toString(method.getParameterTypes()))) {
+                candidates.add(method);
+            }
+        }
+
+        for (Class<?> superInterface : type.getInterfaces()) {
+            collectDefaultMethods(superInterface, signature, candidates, seen);
+        }
+    }
+
+    private static boolean isCandidate(Method method, Signature signature) {
+        return method.getName().equals(signature.name)
+                && !method.isBridge()
+                && Modifier.isStatic(method.getModifiers()) == signature.isStatic
+                && isApplicable(method, signature.argumentTypes);
+    }
+
+    private static MethodInvoker resolveConstructor(Class<?> type, Signature signature) {
+        Metrics.cacheMiss(Cache.METHOD_INVOKERS);
+        List<Executable> candidates = new ArrayList<>();
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (isApplicable(constructor, signature.argumentTypes)) {
+                candidates.add(constructor);
+            }
+        }
+        return resolve(candidates, "constructor", type.getName() + signature.parameters());
+    }
+
+    private static boolean isApplicable(Executable executable, Class<?>[] argumentTypes) {
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+
+        if (parameterTypes.length != argumentTypes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (argumentTypes[i] == null ? parameterTypes[i].isPrimitive() : !wrap(parameterTypes[i]).isAssignableFrom(argumentTypes[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static MethodInvoker resolve(List<Executable> candidates, String kind, String description) {
+        List<Executable> mostSpecific = new ArrayList<>();
+
+        for (Executable candidate : candidates) {
+            boolean dominated = false;
+            for (Executable other : candidates) {
+                if (other != candidate && isMoreSpecific(other, candidate) && !isMoreSpecific(candidate, other)) {
+                    dominated = true;
+                    break;
+                }
+            }
+
+            if (!dominated) {
+                mostSpecific.add(candidate);
+            }
+        }
+
+        if (mostSpecific.isEmpty()) {
+            return new MethodInvoker(null, "No such " + kind + ": " + description);
+        }
+
+        if (mostSpecific.size() > 1) {
+            return new MethodInvoker(null, "Ambiguous " + kind + ": " + description);
+        }
+
+        return new MethodInvoker(createInvoker(mostSpecific.get(0)), null);
+    }
+
+    private static boolean isMoreSpecific(Executable executable, Executable other) {
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        Class<?>[] otherParameterTypes = other.getParameterTypes();
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!wrap(otherParameterTypes[i]).isAssignableFrom(wrap(parameterTypes[i]))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static MethodHandle createInvoker(Executable executable) {
+        executable.trySetAccessible();
+
+        MethodHandle handle;
+        try {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(executable.getDeclaringClass(), MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                lookup = MethodHandles.lookup();
+            }
+
+            handle = executable instanceof Method
+                    ? lookup.unreflect((Method) executable)
+                    : lookup.unreflectConstructor((Constructor<?>) executable);
+        } catch (IllegalAccessException e) {
+            return MethodHandles.dropArguments(
+                    MethodHandles.throwException(Object.class, IllegalAccessException.class).bindTo(e),
+                    0, Object.class, Object[].class);
+        }
+
+        handle = handle.asFixedArity();
+        handle = handle.asType(handle.type().generic())
+                .asSpreader(Object[].class, executable.getParameterCount());
+
+        if (executable instanceof Constructor || Modifier.isStatic(executable.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        return handle.asType(INVOKER_TYPE);
+    }
+
+    private static Class<?>[] argumentTypes(Object[] arguments) {
+        Class<?>[] argumentTypes = new Class<?>[arguments == null ? 0 : arguments.length];
+
+        for (int i = 0; i < argumentTypes.length; i++) {
+            argumentTypes[i] = arguments[i] == null ? null : arguments[i].getClass();
+        }
+
+        return argumentTypes;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static final class Invokers {
+
+        private final ConcurrentMap<String, Overloads> instanceMethods = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Overloads> staticMethods = new ConcurrentHashMap<>();
+        private final Overloads constructors = new Overloads();
+    }
+
+    private static final class Overloads {
+
+        private volatile Resolved[] resolved = new Resolved[0];
+
+        private MethodInvoker find(Object[] arguments) {
+            for (Resolved candidate : resolved) {
+                if (candidate.matches(arguments)) {
+                    return candidate.invoker;
+                }
+            }
+            return null;
+        }
+
+        private synchronized MethodInvoker add(Class<?>[] argumentTypes, MethodInvoker invoker) {
+            Resolved[] current = resolved;
+            for (Resolved candidate : current) {
+                if (Arrays.equals(candidate.argumentTypes, argumentTypes)) {
+                    return candidate.invoker;
+                }
+            }
+
+            if (current.length < MAX_OVERLOADS) {
+                Resolved[] extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = new Resolved(argumentTypes, invoker);
+                resolved = extended;
+            }
+            return invoker;
+        }
+    }
+
+    private static final class Resolved {
+
+        private final Class<?>[] argumentTypes;
+        private final MethodInvoker invoker;
+
+        private Resolved(Class<?>[] argumentTypes, MethodInvoker invoker) {
+            this.argumentTypes = argumentTypes;
+            this.invoker = invoker;
+        }
+
+        private boolean matches(Object[] arguments) {
+            int length = arguments == null ? 0 : arguments.length;
+            if (length != argumentTypes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (argumentTypes[i] != (arguments[i] == null ? null : arguments[i].getClass())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Signature {
+
+        private final String name;
+        private final boolean isStatic;
+        private final Class<?>[] argumentTypes;
+
+        private Signature(String name, boolean isStatic, Class<?>[] argumentTypes) {
+            this.name = name;
+            this.isStatic = isStatic;
+            this.argumentTypes = argumentTypes;
+        }
+
+        private String parameters() {
+            StringJoiner parameters = new StringJoiner(", ", "(", ")");
+            for (Class<?> argumentType : argumentTypes) {
+                parameters.add(argumentType == null ? "null" : argumentType.getName());
+            }
+            return parameters.toString();
+        }
+
+        @Override
+        public String toString() {
+            return name + parameters();
+        }
+    }
+}
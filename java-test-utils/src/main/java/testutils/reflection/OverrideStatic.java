@@ -0,0 +1,29 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Repeatable(OverrideStatic.List.class)
+@ExtendWith(StaticOverrideExtension.class)
+public @interface OverrideStatic {
+
+    Class<?> type();
+
+    String field();
+
+    String value();
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @ExtendWith(StaticOverrideExtension.class)
+    @interface List {
+        OverrideStatic[] value();
+    }
+}
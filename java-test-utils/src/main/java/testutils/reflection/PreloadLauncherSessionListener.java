@@ -0,0 +1,41 @@
+package testutils.reflection;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import testutils.classpath.MetadataSnapshot;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class PreloadLauncherSessionListener implements LauncherSessionListener {
+
+    static final String PRELOAD_PROPERTY = "testutils.preload";
+    static final String SNAPSHOT_PRELOAD_PROPERTY = "testutils.metadata.preload";
+
+    private static final Logger LOGGER = Logger.getLogger(PreloadLauncherSessionListener.class.getName());
+    private static final AtomicBoolean PRELOADED = new AtomicBoolean();
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        String preload = System.getProperty(PRELOAD_PROPERTY);
+        boolean configured = preload != null && !preload.isBlank();
+        boolean cached = Boolean.getBoolean(SNAPSHOT_PRELOAD_PROPERTY) && MetadataSnapshot.shared().isEnabled();
+
+        if ((!configured && !cached) || !PRELOADED.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (cached) {
+            Reflection.preloadSnapshot();
+        }
+
+        if (configured) {
+            try {
+                Reflection.preload(preload.trim().split("\\s*,\\s*"));
+            } catch (ReflectionException e) {
+                LOGGER.log(Level.WARNING, e, () -> "Preloading " + preload + " failed");
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package testutils.reflection;
+
+import testutils.annotation.Annotations;
+import testutils.classpath.ClassFile;
+import testutils.classpath.ClassPathScanner;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+final class Preloader {
+
+    private static final int THRESHOLD = 4;
+    private static final String JDK_PACKAGE_PREFIX = "java.";
+
+    private Preloader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static List<Class<?>> resolve(ClassLoader classLoader, String... packagesOrClasses) throws ReflectionException {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+
+        for (String packageOrClass : packagesOrClasses) {
+            Class<?> type = load(classLoader, packageOrClass);
+            if (type != null) {
+                classes.add(type);
+                continue;
+            }
+
+            try {
+                for (ClassFile classFile : ClassPathScanner.scanPackage(classLoader, packageOrClass, true)) {
+                    if (classFile.isSynthetic() || classFile.isModuleOrPackageInfo()) {
+                        continue;
+                    }
+
+                    Class<?> scanned = load(classLoader, classFile.getName());
+                    if (scanned != null) {
+                        classes.add(scanned);
+                    }
+                }
+            } catch (IOException e) {
+                throw new ReflectionException(e);
+            }
+        }
+
+        return new ArrayList<>(classes);
+    }
+
+    static List<Class<?>> resolveClasses(ClassLoader classLoader, Collection<String> classNames) {
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+
+        for (String className : classNames) {
+            Class<?> type = load(classLoader, className);
+            if (type != null) {
+                classes.add(type);
+            }
+        }
+
+        return classes;
+    }
+
+    static int preload(ForkJoinPool pool, List<Class<?>> classes) {
+        return pool.invoke(new PreloadTask(classes.toArray(new Class<?>[0]), true, 0, classes.size()));
+    }
+
+    static int preloadAnnotations(ForkJoinPool pool, List<Class<?>> classes) {
+        return pool.invoke(new PreloadTask(classes.toArray(new Class<?>[0]), false, 0, classes.size()));
+    }
+
+    static boolean warm(Class<?> type) {
+        try {
+            FieldCache.find(type, "");
+            for (Field field : Members.fields(type).list()) {
+                if (!isJdkType(field.getDeclaringClass())) {
+                    FieldHandle.of(field);
+                }
+            }
+
+            Members.methods(type).stream().count();
+            Members.constructors(type).stream().count();
+            if (!extendsJdkType(type)) {
+                CopyPlan.forInstance(type);
+            }
+            Annotations.preload(type);
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static boolean warmAnnotations(Class<?> type) {
+        try {
+            Annotations.preload(type);
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean extendsJdkType(Class<?> type) {
+        for (Class<?> current = type.getSuperclass(); current != null && current != Object.class; current = current.getSuperclass()) {
+            if (isJdkType(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        return type.getName().startsWith(JDK_PACKAGE_PREFIX);
+    }
+
+    private static Class<?> load(ClassLoader classLoader, String name) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static final class PreloadTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?>[] classes;
+        private final boolean reflect;
+        private final int from;
+        private final int to;
+
+        private PreloadTask(Class<?>[] classes, boolean reflect, int from, int to) {
+            this.classes = classes;
+            this.reflect = reflect;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                PreloadTask left = new PreloadTask(classes, reflect, from, middle);
+                PreloadTask right = new PreloadTask(classes, reflect, middle, to);
+                invokeAll(left, right);
+                return left.join() + right.join();
+            }
+
+            int warmed = 0;
+            for (int i = from; i < to; i++) {
+                if (reflect ? warm(classes[i]) : warmAnnotations(classes[i])) {
+                    warmed++;
+                }
+            }
+            return warmed;
+        }
+    }
+}
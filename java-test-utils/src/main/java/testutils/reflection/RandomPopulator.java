@@ -0,0 +1,165 @@
+package testutils.reflection;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class RandomPopulator {
+
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final ClassValue<ValueGenerator> ROOT_GENERATORS = new ClassValue<>() {
+        @Override
+        protected ValueGenerator computeValue(Class<?> type) {
+            return ValueGenerators.of(type, new Annotation[0]);
+        }
+    };
+
+    private final long seed;
+    private final int maxDepth;
+    private final int minSize;
+    private final int maxSize;
+    private final AtomicLong sequence;
+
+    private RandomPopulator(long seed, int maxDepth, int minSize, int maxSize) {
+        this.seed = seed;
+        this.maxDepth = maxDepth;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.sequence = new AtomicLong();
+    }
+
+    public static RandomPopulator seeded(long seed) {
+        return new RandomPopulator(seed, 3, 1, 5);
+    }
+
+    public RandomPopulator withMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth must be positive: " + maxDepth);
+        }
+
+        return new RandomPopulator(seed, maxDepth, minSize, maxSize);
+    }
+
+    public RandomPopulator withCollectionSize(int minSize, int maxSize) {
+        if (minSize < 0 || maxSize < minSize) {
+            throw new IllegalArgumentException(String.format("Invalid collection size: %d..%d", minSize, maxSize));
+        }
+
+        return new RandomPopulator(seed, maxDepth, minSize, maxSize);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public <T> T next(Class<T> type) throws ReflectionException {
+        return type.cast(generate(type, sequence.getAndIncrement()));
+    }
+
+    public <T> List<T> list(Class<T> type, int count) throws ReflectionException {
+        long first = sequence.getAndAdd(count);
+        List<T> values = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            values.add(type.cast(generate(type, first + i)));
+        }
+
+        return values;
+    }
+
+    public <T> List<T> list(Class<T> type, int count, ForkJoinPool pool) throws ReflectionException {
+        long first = sequence.getAndAdd(count);
+        Object[] values = new Object[count];
+        pool.invoke(new GenerateTask(this, type, values, first, 0, count));
+
+        List<T> list = new ArrayList<>(count);
+        for (Object value : values) {
+            list.add(type.cast(value));
+        }
+        return list;
+    }
+
+    public void fill(Object target) throws ReflectionException {
+        if (target == null) {
+            throw new ReflectionException("Null object");
+        }
+
+        FillPlan.of(target.getClass()).fill(target, random(sequence.getAndIncrement()), this, 0);
+    }
+
+    int size(SplittableRandom random, int min, int max) {
+        int from = min < 0 ? minSize : min;
+        int to = max < 0 ? Math.max(from, maxSize) : max;
+        return from >= to ? from : from + random.nextInt(to - from + 1);
+    }
+
+    private Object generate(Class<?> type, long index) throws ReflectionException {
+        SplittableRandom random = random(index);
+        ValueGenerator generator = ROOT_GENERATORS.get(type);
+        Object value = generator.generate(random, this, -1);
+
+        if (value == null && !type.isPrimitive()) {
+            return FillPlan.of(type).create(random, this, 0);
+        }
+
+        return value;
+    }
+
+    private SplittableRandom random(long index) {
+        return new SplittableRandom(mix(seed + index * GOLDEN_GAMMA));
+    }
+
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class GenerateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RandomPopulator populator;
+        private final Class<?> type;
+        private final Object[] values;
+        private final long first;
+        private final int from;
+        private final int to;
+
+        private GenerateTask(RandomPopulator populator, Class<?> type, Object[] values, long first, int from, int to) {
+            this.populator = populator;
+            this.type = type;
+            this.values = values;
+            this.first = first;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new GenerateTask(populator, type, values, first, from, middle), new GenerateTask(populator, type, values, first, middle, to));
+                return;
+            }
+
+            try {
+                for (int i = from; i < to; i++) {
+                    values[i] = populator.generate(type, first + i);
+                }
+            } catch (ReflectionException e) {
+                completeExceptionally(e);
+            }
+        }
+    }
+}
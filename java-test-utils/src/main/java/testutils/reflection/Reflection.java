@@ -1,67 +1,374 @@
 package testutils.reflection;
 
+import testutils.classpath.MetadataSnapshot;
+import testutils.metrics.Metrics;
+import testutils.metrics.Operation;
+import testutils.metrics.Timing;
+
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 public final class Reflection {
 
+    private static final String NO_SUCH_FIELD = "No such field: ";
+    private static final String NO_SUCH_METHOD = "No such method: ";
+
     private Reflection() {
         throw new IllegalStateException("Utility class");
     }
 
     private static Field getField(Class<?> affectedClass, String fieldName) throws ReflectionException {
         if (affectedClass == null) {
-            throw new ReflectionException("No such field: " + fieldName);
+            throw new ReflectionException(NO_SUCH_FIELD, fieldName);
         }
 
         if (fieldName == null) {
             throw new ReflectionException("Null field");
         }
 
+        Field field = FieldResolutionEvent.isRecording() ? findRecorded(affectedClass, fieldName) : FieldCache.find(affectedClass, fieldName);
+
+        if (field == null) {
+            throw new ReflectionException(NO_SUCH_FIELD, fieldName);
+        }
+
+        return field;
+    }
+
+    private static Field findRecorded(Class<?> affectedClass, String fieldName) {
+        FieldResolutionEvent event = new FieldResolutionEvent();
+        event.begin();
+        Field field = FieldCache.find(affectedClass, fieldName);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.type = affectedClass;
+            event.field = fieldName;
+            event.found = field != null;
+            event.commit();
+        }
+
+        return field;
+    }
+
+    public static boolean hasField(Class<?> clazz, String fieldName) {
+        return clazz != null && fieldName != null && FieldCache.find(clazz, fieldName) != null;
+    }
+
+    public static Optional<Field> findField(Class<?> clazz, String fieldName) {
+        if (clazz == null || fieldName == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(FieldCache.find(clazz, fieldName));
+    }
+
+    public static Optional<Object> tryGetFieldValue(Object affectedObject, String fieldName) {
+        return affectedObject == null ? Optional.empty() : tryGetValue(affectedObject.getClass(), fieldName, affectedObject);
+    }
+
+    public static Optional<Object> tryGetStaticFieldValue(Class<?> clazz, String fieldName) {
+        return tryGetValue(clazz, fieldName, null);
+    }
+
+    private static Optional<Object> tryGetValue(Class<?> affectedClass, String fieldName, Object affectedObject) {
+        if (affectedClass == null || fieldName == null) {
+            return Optional.empty();
+        }
+
+        Field field = FieldCache.find(affectedClass, fieldName);
+        if (field == null || (affectedObject == null && !Modifier.isStatic(field.getModifiers()))) {
+            return Optional.empty();
+        }
+
         try {
-            return affectedClass.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            return getField(affectedClass.getSuperclass(), fieldName);
+            return Optional.ofNullable(FieldHandle.of(field).get(affectedObject));
+        } catch (ReflectionException e) {
+            return Optional.empty();
         }
     }
 
     public static Object getFieldValue(Object affectedObject, String fieldName) throws ReflectionException {
-        Class<?> affectedClass = affectedObject == null ? null : affectedObject.getClass();
-        Field affectedField = getField(affectedClass, fieldName);
-        return getObjectFromField(affectedField, affectedObject);
+        Timing timing = Metrics.start();
+        try {
+            Class<?> affectedClass = affectedObject == null ? null : affectedObject.getClass();
+            Field affectedField = getField(affectedClass, fieldName);
+            Object value = getObjectFromField(affectedField, affectedObject);
+            Metrics.record(Operation.GET_FIELD_VALUE, timing, affectedClass, affectedField.getDeclaringClass(), fieldName);
+            return value;
+        } catch (ReflectionException e) {
+            throw Metrics.failed(Operation.GET_FIELD_VALUE, timing, affectedObject == null ? null : affectedObject.getClass(), fieldName, e);
+        }
     }
 
     public static void setFieldValue(Object affectedObject, String fieldName, Object newValue) throws ReflectionException {
-        Class<?> affectedClass = affectedObject == null ? null : affectedObject.getClass();
-        Field affectedField = getField(affectedClass, fieldName);
-        setObjectToField(affectedField, affectedObject, newValue);
+        Timing timing = Metrics.start();
+        try {
+            Class<?> affectedClass = affectedObject == null ? null : affectedObject.getClass();
+            Field affectedField = getField(affectedClass, fieldName);
+            setObjectToField(affectedField, affectedObject, newValue);
+            Metrics.record(Operation.SET_FIELD_VALUE, timing, affectedClass, affectedField.getDeclaringClass(), fieldName);
+        } catch (ReflectionException e) {
+            throw Metrics.failed(Operation.SET_FIELD_VALUE, timing, affectedObject == null ? null : affectedObject.getClass(), fieldName, e);
+        }
     }
 
 
     public static void setStaticFieldValue(Class<?> clazz, String fieldName, Object newValue) throws ReflectionException {
-        Field affectedField = getField(clazz, fieldName);
-        setObjectToField(affectedField, null, newValue);
+        Timing timing = Metrics.start();
+        try {
+            Field affectedField = getField(clazz, fieldName);
+            setObjectToField(affectedField, null, newValue);
+            Metrics.record(Operation.SET_STATIC_FIELD_VALUE, timing, clazz, affectedField.getDeclaringClass(), fieldName);
+        } catch (ReflectionException e) {
+            throw Metrics.failed(Operation.SET_STATIC_FIELD_VALUE, timing, clazz, fieldName, e);
+        }
     }
 
     private static void setObjectToField(Field affectedField, Object affectedObject, Object newValue) throws ReflectionException {
+        FieldHandle.of(affectedField).set(affectedObject, newValue);
+    }
+
+    public static Object getStaticFieldValue(Class<?> clazz, String fieldName) throws ReflectionException {
+        Timing timing = Metrics.start();
         try {
-            affectedField.setAccessible(true);
-            affectedField.set(affectedObject, newValue);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionException(e);
+            Field affectedField = getField(clazz, fieldName);
+            Object value = getObjectFromField(affectedField, null);
+            Metrics.record(Operation.GET_STATIC_FIELD_VALUE, timing, clazz, affectedField.getDeclaringClass(), fieldName);
+            return value;
+        } catch (ReflectionException e) {
+            throw Metrics.failed(Operation.GET_STATIC_FIELD_VALUE, timing, clazz, fieldName, e);
         }
     }
 
-    public static Object getStaticFieldValue(Class<?> clazz, String fieldName) throws ReflectionException {
+    private static Object getObjectFromField(Field affectedField, Object affectedObject) throws ReflectionException {
+        return FieldHandle.of(affectedField).get(affectedObject);
+    }
+
+    public static <T, V> FieldAccessor<T, V> accessor(Class<T> affectedClass, String fieldName, Class<V> fieldType) throws ReflectionException {
+        Field affectedField = getField(affectedClass, fieldName);
+        Class<?> actualType = affectedField.getType();
+
+        if (fieldType == null || (fieldType != actualType && fieldType != MethodType.methodType(actualType).wrap().returnType())) {
+            throw new ReflectionException(String.format("Field %s is of type %s, not %s", fieldName, affectedField.getType().getName(), fieldType == null ? null : fieldType.getName()));
+        }
+
+        return new HandleFieldAccessor<>(FieldHandle.of(affectedField));
+    }
+
+    public static int getIntFieldValue(Object affectedObject, String fieldName) throws ReflectionException {
+        return getFieldHandle(affectedObject, fieldName).getInt(affectedObject);
+    }
+
+    public static void setIntFieldValue(Object affectedObject, String fieldName, int newValue) throws ReflectionException {
+        getFieldHandle(affectedObject, fieldName).setInt(affectedObject, newValue);
+    }
+
+    public static int getStaticIntFieldValue(Class<?> clazz, String fieldName) throws ReflectionException {
+        return FieldHandle.of(getField(clazz, fieldName)).getInt(null);
+    }
+
+    public static void setStaticIntFieldValue(Class<?> clazz, String fieldName, int newValue) throws ReflectionException {
+        FieldHandle.of(getField(clazz, fieldName)).setInt(null, newValue);
+    }
+
+    public static <T> IntFieldAccessor<T> intAccessor(Class<T> affectedClass, String fieldName) throws ReflectionException {
+        FieldHandle handle = FieldHandle.of(getField(affectedClass, fieldName));
+        handle.requireType(int.class);
+        return new HandleIntFieldAccessor<>(handle);
+    }
+
+    public static long getLongFieldValue(Object affectedObject, String fieldName) throws ReflectionException {
+        return getFieldHandle(affectedObject, fieldName).getLong(affectedObject);
+    }
+
+    public static void setLongFieldValue(Object affectedObject, String fieldName, long newValue) throws ReflectionException {
+        getFieldHandle(affectedObject, fieldName).setLong(affectedObject, newValue);
+    }
+
+    public static long getStaticLongFieldValue(Class<?> clazz, String fieldName) throws ReflectionException {
+        return FieldHandle.of(getField(clazz, fieldName)).getLong(null);
+    }
+
+    public static void setStaticLongFieldValue(Class<?> clazz, String fieldName, long newValue) throws ReflectionException {
+        FieldHandle.of(getField(clazz, fieldName)).setLong(null, newValue);
+    }
+
+    public static <T> LongFieldAccessor<T> longAccessor(Class<T> affectedClass, String fieldName) throws ReflectionException {
+        FieldHandle handle = FieldHandle.of(getField(affectedClass, fieldName));
+        handle.requireType(long.class);
+        return new HandleLongFieldAccessor<>(handle);
+    }
+
+    public static double getDoubleFieldValue(Object affectedObject, String fieldName) throws ReflectionException {
+        return getFieldHandle(affectedObject, fieldName).getDouble(affectedObject);
+    }
+
+    public static void setDoubleFieldValue(Object affectedObject, String fieldName, double newValue) throws ReflectionException {
+        getFieldHandle(affectedObject, fieldName).setDouble(affectedObject, newValue);
+    }
+
+    public static double getStaticDoubleFieldValue(Class<?> clazz, String fieldName) throws ReflectionException {
+        return FieldHandle.of(getField(clazz, fieldName)).getDouble(null);
+    }
+
+    public static void setStaticDoubleFieldValue(Class<?> clazz, String fieldName, double newValue) throws ReflectionException {
+        FieldHandle.of(getField(clazz, fieldName)).setDouble(null, newValue);
+    }
+
+    public static <T> DoubleFieldAccessor<T> doubleAccessor(Class<T> affectedClass, String fieldName) throws ReflectionException {
+        FieldHandle handle = FieldHandle.of(getField(affectedClass, fieldName));
+        handle.requireType(double.class);
+        return new HandleDoubleFieldAccessor<>(handle);
+    }
+
+    private static FieldHandle getFieldHandle(Object affectedObject, String fieldName) throws ReflectionException {
+        Class<?> affectedClass = affectedObject == null ? null : affectedObject.getClass();
+        return FieldHandle.of(getField(affectedClass, fieldName));
+    }
+
+    public static Object invokeMethod(Object affectedObject, String methodName, Object... arguments) throws ReflectionException {
+        if (affectedObject == null) {
+            throw new ReflectionException(NO_SUCH_METHOD, methodName);
+        }
+
+        if (methodName == null) {
+            throw new ReflectionException("Null method");
+        }
+
+        return MethodInvoker.method(affectedObject.getClass(), methodName, false, arguments).invoke(affectedObject, arguments);
+    }
+
+    public static Object invokeStaticMethod(Class<?> clazz, String methodName, Object... arguments) throws ReflectionException {
+        if (clazz == null) {
+            throw new ReflectionException(NO_SUCH_METHOD, methodName);
+        }
+
+        if (methodName == null) {
+            throw new ReflectionException("Null method");
+        }
+
+        return MethodInvoker.method(clazz, methodName, true, arguments).invoke(null, arguments);
+    }
+
+    public static <T> T newInstance(Class<T> clazz, Object... arguments) throws ReflectionException {
+        if (clazz == null) {
+            throw new ReflectionException("No such constructor: null");
+        }
+
+        return clazz.cast(MethodInvoker.constructor(clazz, arguments).invoke(null, arguments));
+    }
+
+    public static Snapshot snapshot(Object affectedObject) throws ReflectionException {
+        if (affectedObject == null) {
+            throw new ReflectionException("Null object");
+        }
+
+        CopyPlan plan = CopyPlan.forInstance(affectedObject.getClass());
+        return new Snapshot(affectedObject.getClass(), affectedObject, plan, plan.capture(affectedObject));
+    }
+
+    public static Snapshot snapshotStatics(Class<?> clazz) throws ReflectionException {
+        if (clazz == null) {
+            throw new ReflectionException("Null class");
+        }
+
+        CopyPlan plan = CopyPlan.forStatics(clazz);
+        return new Snapshot(clazz, null, plan, plan.capture(null));
+    }
+
+    public static void restore(Snapshot snapshot) throws ReflectionException {
+        if (snapshot == null) {
+            throw new ReflectionException("Null snapshot");
+        }
+
+        snapshot.restore();
+    }
+
+    public static StaticOverride overrideStatic(Class<?> clazz, String fieldName, Object newValue) throws ReflectionException {
         Field affectedField = getField(clazz, fieldName);
-        return getObjectFromField(affectedField, null);
+
+        if (!Modifier.isStatic(affectedField.getModifiers())) {
+            throw new ReflectionException(String.format("Field %s is not static", fieldName));
+        }
+
+        return StaticOverride.apply(affectedField, newValue);
     }
 
-    private static Object getObjectFromField(Field affectedField, Object affectedObject) throws ReflectionException {
-        try {
-            affectedField.setAccessible(true);
-            return affectedField.get(affectedObject);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionException(e);
+    public static boolean deepEquals(Object expected, Object actual) throws ReflectionException {
+        return DeepComparison.equals(expected, actual);
+    }
+
+    public static List<Difference> deepDiff(Object expected, Object actual) throws ReflectionException {
+        return DeepComparison.diff(expected, actual);
+    }
+
+    public static List<Difference> deepDiff(Object expected, Object actual, ForkJoinPool pool) throws ReflectionException {
+        if (pool == null) {
+            return DeepComparison.diff(expected, actual);
         }
+
+        return DeepComparison.diff(expected, actual, pool);
+    }
+
+    public static Object getPath(Object root, String path) throws ReflectionException {
+        if (path == null) {
+            throw new ReflectionException("Null path");
+        }
+
+        return FieldPath.of(path).get(root);
+    }
+
+    public static void setPath(Object root, String path, Object newValue) throws ReflectionException {
+        if (path == null) {
+            throw new ReflectionException("Null path");
+        }
+
+        FieldPath.of(path).set(root, newValue);
+    }
+
+    public static <T> T allocate(Class<T> clazz) throws ReflectionException {
+        if (clazz == null) {
+            throw new ReflectionException("Null class");
+        }
+
+        return clazz.cast(InstanceFactory.of(clazz).newInstance());
+    }
+
+    public static <T> T allocate(Class<T> clazz, Map<String, ?> fieldValues) throws ReflectionException {
+        T instance = allocate(clazz);
+
+        for (Map.Entry<String, ?> fieldValue : fieldValues.entrySet()) {
+            setObjectToField(getField(clazz, fieldValue.getKey()), instance, fieldValue.getValue());
+        }
+
+        return instance;
+    }
+
+    public static int preload(String... packagesOrClasses) throws ReflectionException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return preload(ForkJoinPool.commonPool(), classLoader == null ? Reflection.class.getClassLoader() : classLoader, packagesOrClasses);
+    }
+
+    public static int preload(ForkJoinPool pool, ClassLoader classLoader, String... packagesOrClasses) throws ReflectionException {
+        return Preloader.preload(pool, Preloader.resolve(classLoader, packagesOrClasses));
+    }
+
+    public static int preload(Class<?>... classes) {
+        return Preloader.preload(ForkJoinPool.commonPool(), List.of(classes));
+    }
+
+    public static int preloadSnapshot() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return preloadSnapshot(ForkJoinPool.commonPool(), classLoader == null ? Reflection.class.getClassLoader() : classLoader, MetadataSnapshot.shared());
+    }
+
+    public static int preloadSnapshot(ForkJoinPool pool, ClassLoader classLoader, MetadataSnapshot snapshot) {
+        return Preloader.preloadAnnotations(pool, Preloader.resolveClasses(classLoader, snapshot.getTypeNames()));
     }
 }
@@ -1,11 +1,40 @@
 package testutils.reflection;
 
 public class ReflectionException extends Exception {
+
+    private static volatile boolean stackless = Boolean.getBoolean("testutils.reflection.stackless");
+
+    private final String messagePrefix;
+    private final transient Object messageDetail;
+
     public ReflectionException(String s) {
-        super(s);
+        super(s, null, true, !stackless);
+        this.messagePrefix = null;
+        this.messageDetail = null;
     }
 
     public ReflectionException(Throwable throwable) {
-        super(throwable);
+        super(throwable == null ? null : throwable.toString(), throwable, true, !stackless);
+        this.messagePrefix = null;
+        this.messageDetail = null;
+    }
+
+    ReflectionException(String messagePrefix, Object messageDetail) {
+        super(null, null, true, !stackless);
+        this.messagePrefix = messagePrefix;
+        this.messageDetail = messageDetail;
+    }
+
+    public static boolean isStackless() {
+        return stackless;
+    }
+
+    public static void setStackless(boolean stackless) {
+        ReflectionException.stackless = stackless;
+    }
+
+    @Override
+    public String getMessage() {
+        return messagePrefix == null ? super.getMessage() : messagePrefix + messageDetail;
     }
 }
@@ -0,0 +1,32 @@
+package testutils.reflection;
+
+public final class Snapshot {
+
+    private final Class<?> type;
+    private final Object target;
+    private final CopyPlan plan;
+    private final Object[] values;
+
+    Snapshot(Class<?> type, Object target, CopyPlan plan, Object[] values) {
+        this.type = type;
+        this.target = target;
+        this.plan = plan;
+        this.values = values;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isStatic() {
+        return target == null;
+    }
+
+    public int getFieldCount() {
+        return plan.size();
+    }
+
+    void restore() throws ReflectionException {
+        plan.restore(target, values);
+    }
+}
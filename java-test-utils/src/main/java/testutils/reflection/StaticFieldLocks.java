@@ -0,0 +1,25 @@
+package testutils.reflection;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class StaticFieldLocks {
+
+    private static final ConcurrentMap<String, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private StaticFieldLocks() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static String key(Field field) {
+        return field.getDeclaringClass().getName() + "#" + field.getName();
+    }
+
+    static ReentrantLock acquire(Field field) {
+        ReentrantLock lock = LOCKS.computeIfAbsent(key(field), key -> new ReentrantLock());
+        lock.lock();
+        return lock;
+    }
+}
@@ -0,0 +1,58 @@
+package testutils.reflection;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class StaticOverride implements AutoCloseable {
+
+    private final FieldHandle handle;
+    private final Object previousValue;
+    private final ReentrantLock lock;
+    private boolean closed;
+
+    private StaticOverride(FieldHandle handle, Object previousValue, ReentrantLock lock) {
+        this.handle = handle;
+        this.previousValue = previousValue;
+        this.lock = lock;
+    }
+
+    static StaticOverride apply(Field field, Object newValue) throws ReflectionException {
+        FieldHandle handle = FieldHandle.of(field);
+        ReentrantLock lock = StaticFieldLocks.acquire(field);
+
+        try {
+            Object previousValue = handle.get(null);
+            handle.set(null, newValue);
+            return new StaticOverride(handle, previousValue, lock);
+        } catch (ReflectionException | RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    public Field getField() {
+        return handle.getField();
+    }
+
+    public Object getPreviousValue() {
+        return previousValue;
+    }
+
+    @Override
+    public void close() throws ReflectionException {
+        if (closed) {
+            return;
+        }
+
+        if (!lock.isHeldByCurrentThread()) {
+            throw new IllegalStateException(String.format("Static field %s must be restored by the thread that overrode it", handle.getField().getName()));
+        }
+
+        closed = true;
+        try {
+            handle.set(null, previousValue);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
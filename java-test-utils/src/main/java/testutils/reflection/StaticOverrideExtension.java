@@ -0,0 +1,122 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class StaticOverrideExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StaticOverrideExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws Exception {
+        List<OverrideStatic> declarations = new ArrayList<>(AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestClass(), OverrideStatic.class));
+        declarations.addAll(AnnotationSupport.findRepeatableAnnotations(context.getRequiredTestMethod(), OverrideStatic.class));
+
+        if (declarations.isEmpty()) {
+            return;
+        }
+
+        List<Field> fields = new ArrayList<>();
+        for (OverrideStatic declaration : declarations) {
+            fields.add(staticField(declaration.type(), declaration.field()));
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < declarations.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(index -> StaticFieldLocks.key(fields.get(index))));
+
+        StaticOverrides overrides = overrides(context);
+        for (int index : order) {
+            Field field = fields.get(index);
+            overrides.add(StaticOverride.apply(field, convert(declarations.get(index).value(), field.getType())));
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) throws Exception {
+        overrides(context).restore();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == StaticOverrides.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return overrides(extensionContext);
+    }
+
+    private static StaticOverrides overrides(ExtensionContext context) {
+        return context.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(RestoreOnClose.class, key -> new RestoreOnClose(), RestoreOnClose.class)
+                .overrides;
+    }
+
+    private static Field staticField(Class<?> type, String fieldName) throws ReflectionException {
+        Field field = Reflection.findField(type, fieldName)
+                .orElseThrow(() -> new ReflectionException("No such field: ", fieldName));
+
+        if (!Modifier.isStatic(field.getModifiers())) {
+            throw new ReflectionException(String.format("Field %s is not static", fieldName));
+        }
+
+        return field;
+    }
+
+    static Object convert(String value, Class<?> type) throws ReflectionException {
+        if (type.isAssignableFrom(String.class)) {
+            return value;
+        }
+
+        if (type.isEnum()) {
+            for (Object constant : type.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equals(value)) {
+                    return constant;
+                }
+            }
+        } else {
+            Class<?> wrapper = MethodType.methodType(type).wrap().returnType();
+
+            if (wrapper == Character.class && value.length() == 1) {
+                return value.charAt(0);
+            }
+
+            if (Number.class.isAssignableFrom(wrapper) || wrapper == Boolean.class) {
+                try {
+                    return wrapper.getMethod("valueOf", String.class).invoke(null, value);
+                } catch (InvocationTargetException e) {
+                    throw new ReflectionException(e.getCause());
+                } catch (ReflectiveOperationException e) {
+                    throw new ReflectionException(e);
+                }
+            }
+        }
+
+        throw new ReflectionException(String.format("Cannot convert %s to %s", value, type.getName()));
+    }
+
+    private static final class RestoreOnClose implements ExtensionContext.Store.CloseableResource {
+
+        private final StaticOverrides overrides = new StaticOverrides();
+
+        @Override
+        public void close() throws Throwable {
+            overrides.restore();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package testutils.reflection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public final class StaticOverrides {
+
+    private final Deque<StaticOverride> overrides = new ArrayDeque<>();
+
+    StaticOverrides() {
+    }
+
+    public void set(Class<?> clazz, String fieldName, Object newValue) throws ReflectionException {
+        overrides.push(Reflection.overrideStatic(clazz, fieldName, newValue));
+    }
+
+    void add(StaticOverride override) {
+        overrides.push(override);
+    }
+
+    void restore() throws ReflectionException {
+        ReflectionException failure = null;
+
+        while (!overrides.isEmpty()) {
+            try {
+                overrides.pop().close();
+            } catch (ReflectionException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
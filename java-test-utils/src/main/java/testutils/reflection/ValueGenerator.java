@@ -0,0 +1,8 @@
+package testutils.reflection;
+
+import java.util.SplittableRandom;
+
+interface ValueGenerator {
+
+    Object generate(SplittableRandom random, RandomPopulator populator, int depth) throws ReflectionException;
+}
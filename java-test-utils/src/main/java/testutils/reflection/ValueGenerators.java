@@ -0,0 +1,303 @@
+package testutils.reflection;
+
+import testutils.annotation.AnnotationAttributes;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+final class ValueGenerators {
+
+    private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int MIN_STRING_LENGTH = 5;
+    private static final int MAX_STRING_LENGTH = 12;
+    private static final long MAX_EPOCH_DAY = LocalDate.of(2100, 1, 1).toEpochDay();
+    private static final ValueGenerator NULL = (random, populator, depth) -> null;
+
+    private ValueGenerators() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static ValueGenerator of(Type type, Annotation[] annotations) {
+        Constraints constraints = Constraints.of(annotations);
+
+        if (constraints.isNull) {
+            return NULL;
+        }
+
+        Class<?> rawType = rawType(type);
+        if (rawType == null) {
+            return NULL;
+        }
+
+        ValueGenerator scalar = scalar(rawType, constraints);
+        if (scalar != null) {
+            return scalar;
+        }
+
+        if (rawType.isArray()) {
+            Type componentType = type instanceof GenericArrayType ? ((GenericArrayType) type).getGenericComponentType() : rawType.getComponentType();
+            ValueGenerator component = of(componentType, new Annotation[0]);
+            Class<?> componentClass = rawType.getComponentType();
+            return (random, populator, depth) -> {
+                int size = populator.size(random, constraints.minSize, constraints.maxSize);
+                Object array = Array.newInstance(componentClass, size);
+                for (int i = 0; i < size; i++) {
+                    Object element = component.generate(random, populator, depth + 1);
+                    if (element != null || !componentClass.isPrimitive()) {
+                        Array.set(array, i, element);
+                    }
+                }
+                return array;
+            };
+        }
+
+        if (Optional.class == rawType) {
+            ValueGenerator element = of(typeArgument(type, 0), new Annotation[0]);
+            return (random, populator, depth) -> Optional.ofNullable(element.generate(random, populator, depth + 1));
+        }
+
+        if (Map.class.isAssignableFrom(rawType)) {
+            if (!rawType.isAssignableFrom(LinkedHashMap.class)) {
+                return NULL;
+            }
+
+            ValueGenerator key = of(typeArgument(type, 0), new Annotation[0]);
+            ValueGenerator value = of(typeArgument(type, 1), new Annotation[0]);
+            return (random, populator, depth) -> {
+                int size = populator.size(random, constraints.minSize, constraints.maxSize);
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(key.generate(random, populator, depth + 1), value.generate(random, populator, depth + 1));
+                }
+                return map;
+            };
+        }
+
+        if (Collection.class.isAssignableFrom(rawType)) {
+            boolean list = rawType.isAssignableFrom(ArrayList.class);
+            if (!list && !rawType.isAssignableFrom(LinkedHashSet.class)) {
+                return NULL;
+            }
+
+            ValueGenerator element = of(typeArgument(type, 0), new Annotation[0]);
+            return (random, populator, depth) -> {
+                int size = populator.size(random, constraints.minSize, constraints.maxSize);
+                Collection<Object> collection = list ? new ArrayList<>(size) : new LinkedHashSet<>();
+                for (int i = 0; i < size; i++) {
+                    collection.add(element.generate(random, populator, depth + 1));
+                }
+                return collection;
+            };
+        }
+
+        if (rawType.isInterface() || Modifier.isAbstract(rawType.getModifiers()) || rawType.getName().startsWith("java.")) {
+            return NULL;
+        }
+
+        return (random, populator, depth) -> depth >= populator.getMaxDepth() ? null : FillPlan.of(rawType).create(random, populator, depth + 1);
+    }
+
+    private static ValueGenerator scalar(Class<?> type, Constraints constraints) {
+        if (type == boolean.class || type == Boolean.class) {
+            return (random, populator, depth) -> random.nextBoolean();
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (random, populator, depth) -> (byte) constraints.nextLong(random, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+        if (type == short.class || type == Short.class) {
+            return (random, populator, depth) -> (short) constraints.nextLong(random, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+        if (type == int.class || type == Integer.class) {
+            return (random, populator, depth) -> (int) constraints.nextLong(random, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (type == long.class || type == Long.class) {
+            return (random, populator, depth) -> constraints.nextLong(random, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (type == float.class || type == Float.class) {
+            return (random, populator, depth) -> (float) constraints.nextDouble(random);
+        }
+        if (type == double.class || type == Double.class) {
+            return (random, populator, depth) -> constraints.nextDouble(random);
+        }
+        if (type == char.class || type == Character.class) {
+            return (random, populator, depth) -> ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+        }
+        if (type == String.class || type == CharSequence.class) {
+            int minLength = constraints.minSize < 0 ? MIN_STRING_LENGTH : constraints.minSize;
+            int maxLength = constraints.maxSize < 0 ? Math.max(minLength, MAX_STRING_LENGTH) : constraints.maxSize;
+            return (random, populator, depth) -> {
+                char[] characters = new char[minLength + random.nextInt(maxLength - minLength + 1)];
+                for (int i = 0; i < characters.length; i++) {
+                    characters[i] = ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+                }
+                return new String(characters);
+            };
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants.length == 0 ? NULL : (random, populator, depth) -> constants[random.nextInt(constants.length)];
+        }
+        if (type == BigDecimal.class) {
+            return (random, populator, depth) -> BigDecimal.valueOf(constraints.nextLong(random, Integer.MIN_VALUE, Integer.MAX_VALUE), 2);
+        }
+        if (type == BigInteger.class) {
+            return (random, populator, depth) -> BigInteger.valueOf(constraints.nextLong(random, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        if (type == UUID.class) {
+            return (random, populator, depth) -> new UUID(random.nextLong(), random.nextLong());
+        }
+        if (type == LocalDate.class) {
+            return (random, populator, depth) -> LocalDate.ofEpochDay(random.nextLong(MAX_EPOCH_DAY));
+        }
+        if (type == LocalDateTime.class) {
+            return (random, populator, depth) -> LocalDateTime.ofEpochSecond(random.nextLong(MAX_EPOCH_DAY * 86_400), 0, ZoneOffset.UTC);
+        }
+        if (type == Instant.class) {
+            return (random, populator, depth) -> Instant.ofEpochSecond(random.nextLong(MAX_EPOCH_DAY * 86_400));
+        }
+        if (type == Date.class) {
+            return (random, populator, depth) -> new Date(random.nextLong(MAX_EPOCH_DAY * 86_400_000));
+        }
+        return null;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawType(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+            return component == null ? null : Array.newInstance(component, 0).getClass();
+        }
+        return null;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    private static final class Constraints {
+
+        private static final Constraints NONE = new Constraints(false, -1, -1, Long.MIN_VALUE, Long.MAX_VALUE);
+        private static final Set<String> CONSTRAINT_PACKAGES = Set.of("javax.validation.constraints", "jakarta.validation.constraints");
+
+        private final boolean isNull;
+        private final int minSize;
+        private final int maxSize;
+        private final long min;
+        private final long max;
+
+        private Constraints(boolean isNull, int minSize, int maxSize, long min, long max) {
+            this.isNull = isNull;
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.min = min;
+            this.max = max;
+        }
+
+        private static Constraints of(Annotation[] annotations) {
+            if (annotations.length == 0) {
+                return NONE;
+            }
+
+            boolean isNull = false;
+            int minSize = -1;
+            int maxSize = -1;
+            long min = Long.MIN_VALUE;
+            long max = Long.MAX_VALUE;
+
+            for (Annotation annotation : annotations) {
+                if (!CONSTRAINT_PACKAGES.contains(annotation.annotationType().getPackageName())) {
+                    continue;
+                }
+
+                switch (annotation.annotationType().getSimpleName()) {
+                    case "Null":
+                        isNull = true;
+                        break;
+                    case "Size":
+                        minSize = (int) attribute(annotation, "min", minSize);
+                        long declaredMax = attribute(annotation, "max", maxSize);
+                        maxSize = declaredMax >= Integer.MAX_VALUE ? -1 : (int) declaredMax;
+                        break;
+                    case "Min":
+                        min = attribute(annotation, "value", min);
+                        break;
+                    case "Max":
+                        max = attribute(annotation, "value", max);
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            return new Constraints(isNull, minSize, maxSize, min, max);
+        }
+
+        private static long attribute(Annotation annotation, String name, long defaultValue) {
+            MethodHandle reader = AnnotationAttributes.find(annotation.annotationType(), name);
+            if (reader == null) {
+                return defaultValue;
+            }
+
+            Object value = AnnotationAttributes.read(reader, annotation);
+            return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+        }
+
+        private long nextLong(SplittableRandom random, long lowerBound, long upperBound) {
+            long from = Math.max(min, lowerBound);
+            long to = Math.min(max, upperBound);
+
+            if (from == Long.MIN_VALUE && to == Long.MAX_VALUE) {
+                return random.nextLong();
+            }
+
+            if (from > to) {
+                return from;
+            }
+
+            return to == Long.MAX_VALUE ? random.nextLong(from - 1, to) + 1 : random.nextLong(from, to + 1);
+        }
+
+        private double nextDouble(SplittableRandom random) {
+            if (min == Long.MIN_VALUE && max == Long.MAX_VALUE) {
+                return random.nextDouble();
+            }
+
+            double from = min == Long.MIN_VALUE ? Math.min(0, max) : min;
+            double to = max == Long.MAX_VALUE ? from + 1 : max;
+            return from >= to ? from : random.nextDouble(from, to);
+        }
+    }
+}
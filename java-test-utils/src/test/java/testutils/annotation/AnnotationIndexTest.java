@@ -0,0 +1,210 @@
+package testutils.annotation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnnotationIndexTest {
+
+    @TempDir
+    Path indexDirectory;
+
+    @Test
+    void shouldReturnNullWhenClassIsNotIndexed() throws IOException {
+        AnnotationIndex index = AnnotationIndex.load(classLoader());
+
+        assertThat(index.find(Dummy.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldReadIndexedClassMetadata() throws IOException {
+        writeIndex(AnnotationIndex.MAGIC, AnnotationIndex.VERSION);
+
+        ClassMetadata metadata = AnnotationIndex.load(classLoader()).find(Dummy.class);
+
+        AnnotationMetadata annotation = metadata.getClassMetadata().getAnnotation(DummyAnnotation.class);
+        assertThat(annotation.isAttributeEqual("value", "indexed_value"))
+                .isTrue();
+        assertThat(annotation.isAttributeEqual("type", ElementType.FIELD))
+                .isTrue();
+        assertThat(annotation.isAttributeEqual("types", new Class<?>[]{String.class}))
+                .isTrue();
+        assertThat(metadata.getField("dummy").getAnnotationCount())
+                .isEqualTo(0);
+        assertThat(metadata.getMethod("dummyMethod").getAnnotation(DummyAnnotation.class))
+                .isNotNull();
+        assertThat(metadata.getMethod("dummyMethod").isInheritable())
+                .isTrue();
+    }
+
+    @Test
+    void shouldReadLegacyIndexWithoutInheritanceFlags() throws IOException {
+        writeIndex(AnnotationIndex.MAGIC, 1);
+
+        ClassMetadata metadata = AnnotationIndex.load(classLoader()).find(Dummy.class);
+
+        assertThat(metadata.getMethod("dummyMethod").getAnnotation(DummyAnnotation.class))
+                .isNotNull();
+        assertThat(metadata.getMethod("dummyMethod").isInheritable())
+                .isTrue();
+    }
+
+    @Test
+    void shouldResolveDefaultValuesFromTheAnnotationType() throws IOException {
+        writeIndex(AnnotationIndex.MAGIC, AnnotationIndex.VERSION);
+
+        AnnotationMetadata annotation = AnnotationIndex.load(classLoader()).find(Dummy.class)
+                .getMethod("dummyMethod")
+                .getAnnotation(DummyAnnotation.class);
+
+        assertThat(annotation.hasAttribute("numbers"))
+                .isTrue();
+        assertThat(annotation.isAttributeEqual("value", "test_value"))
+                .isTrue();
+        assertThat(annotation.isAttributeEqual("numbers", new int[0]))
+                .isTrue();
+    }
+
+    @Test
+    void shouldCompareIndexedAndReflectedAttributesWithTheSameRules() throws IOException {
+        writeIndex(AnnotationIndex.MAGIC, AnnotationIndex.VERSION);
+
+        AnnotationMetadata indexed = AnnotationIndex.load(classLoader()).find(Dummy.class)
+                .getClassMetadata()
+                .getAnnotation(DummyAnnotation.class);
+        AnnotationMetadata reflected = ClassMetadata.reflect(ReflectedDummy.class)
+                .getClassMetadata()
+                .getAnnotation(DummyAnnotation.class);
+        Object[][] expectations = {
+                {"value", "indexed_value"},
+                {"type", ElementType.FIELD},
+                {"type", "FIELD"},
+                {"types", new Class<?>[]{String.class}},
+                {"types", new String[]{String.class.getName()}},
+                {"numbers", new int[]{1, 2}},
+                {"numbers", new Integer[]{1, 2}},
+                {"numbers", new long[]{1, 2}}
+        };
+
+        for (Object[] expectation : expectations) {
+            assertThat(indexed.isAttributeEqual((String) expectation[0], expectation[1]))
+                    .isEqualTo(reflected.isAttributeEqual((String) expectation[0], expectation[1]));
+        }
+        assertThat(indexed.isAttributeEqual("numbers", new Integer[]{1, 2}))
+                .isFalse();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIndexIsInvalid() throws IOException {
+        writeIndex(0, AnnotationIndex.VERSION);
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> AnnotationIndex.load(classLoader())
+        );
+    }
+
+    @Test
+    void shouldReturnEmptyIndexForBootstrapClassLoader() {
+        assertThat(AnnotationIndex.of(null).find(String.class))
+                .isNull();
+    }
+
+    private ClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[]{indexDirectory.toUri().toURL()}, null) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                return AnnotationIndexTest.class.getClassLoader().loadClass(name);
+            }
+        };
+    }
+
+    private void writeIndex(int magic, int version) throws IOException {
+        Path index = indexDirectory.resolve(AnnotationIndex.RESOURCE);
+        Files.createDirectories(index.getParent());
+
+        try (OutputStream outputStream = Files.newOutputStream(index)) {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(magic);
+            output.writeShort(version);
+            output.writeInt(1);
+            output.writeUTF(Dummy.class.getName());
+
+            output.writeShort(1);
+            output.writeUTF(DummyAnnotation.class.getName());
+            output.writeShort(4);
+            output.writeUTF("value");
+            output.writeByte('s');
+            output.writeUTF("indexed_value");
+            output.writeUTF("type");
+            output.writeByte('e');
+            output.writeUTF(ElementType.class.getName());
+            output.writeUTF("FIELD");
+            output.writeUTF("types");
+            output.writeByte('[');
+            output.writeShort(1);
+            output.writeByte('c');
+            output.writeUTF(String.class.getName());
+            output.writeUTF("numbers");
+            output.writeByte('[');
+            output.writeShort(2);
+            output.writeByte('I');
+            output.writeInt(1);
+            output.writeByte('I');
+            output.writeInt(2);
+
+            output.writeInt(1);
+            output.writeUTF("dummy");
+            output.writeShort(0);
+
+            output.writeInt(1);
+            output.writeUTF("dummyMethod");
+            output.writeShort(0);
+            if (version > 1) {
+                output.writeBoolean(true);
+            }
+            output.writeShort(1);
+            output.writeUTF(DummyAnnotation.class.getName());
+            output.writeShort(0);
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @interface DummyAnnotation {
+        String value() default "test_value";
+
+        ElementType type() default ElementType.TYPE;
+
+        Class<?>[] types() default {};
+
+        int[] numbers() default {};
+    }
+
+    @DummyAnnotation(value = "indexed_value", type = ElementType.FIELD, types = String.class, numbers = {1, 2})
+    static class ReflectedDummy {
+    }
+
+    static class Dummy {
+        String dummy;
+
+        void dummyMethod() {
+
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package testutils.annotation;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AnnotationsAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+    private static final long MAX_ALLOCATED_BYTES = 1_024;
+    private static final Class<?>[] ANNOTATIONS = {DummyAnnotation.class};
+    private static final Class<?>[] PARAMETER_TYPES = {String.class};
+
+    @Test
+    void shouldNotAllocateWhenAnnotationAssertionsPass() {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertAnnotations();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertAnnotations();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(allocated <= MAX_ALLOCATED_BYTES)
+                .isTrue();
+    }
+
+    private static void assertAnnotations() {
+        Annotations.assertClassAnnotation(Dummy.class, ANNOTATIONS);
+        Annotations.assertFieldAnnotation(Dummy.class, "dummy", ANNOTATIONS);
+        Annotations.assertMethodAnnotation(Dummy.class, "dummyMethod", ANNOTATIONS);
+        Annotations.assertMethodAnnotation(Dummy.class, "dummyMethod", PARAMETER_TYPES, ANNOTATIONS);
+        Annotations.assertMethodAnnotation(Dummy.class, "dummyMethod", "(Ljava/lang/String;)V", ANNOTATIONS);
+        Annotations.assertClassAnnotationParameter(Dummy.class, DummyAnnotation.class, "value", "class");
+        Annotations.assertFieldAnnotationParameter(Dummy.class, "dummy", DummyAnnotation.class, "value", "field");
+        Annotations.assertMethodAnnotationParameter(Dummy.class, "dummyMethod", DummyAnnotation.class, "value", "method");
+        Annotations.assertMethodAnnotationParameter(Dummy.class, "dummyMethod", PARAMETER_TYPES, DummyAnnotation.class, "value", "overload");
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threads : null;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+    @interface DummyAnnotation {
+        String value();
+    }
+
+    @DummyAnnotation("class")
+    static class Dummy {
+        @DummyAnnotation("field")
+        String dummy;
+
+        @DummyAnnotation("method")
+        void dummyMethod() {
+
+        }
+
+        @DummyAnnotation("overload")
+        void dummyMethod(String value) {
+
+        }
+    }
+}
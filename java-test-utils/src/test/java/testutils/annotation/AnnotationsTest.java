@@ -1,6 +1,7 @@
 package testutils.annotation;
 
 import org.junit.jupiter.api.Test;
+import testutils.classpath.fixtures.ScanMarker;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -8,6 +9,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -258,6 +260,145 @@ class AnnotationsTest {
         Annotations.assertFieldAnnotationParameter(Dummy.class, "dummy", DummyFieldAnnotation.class, "value", "test_value");
     }
 
+    @Test
+    void shouldNotThrowsExceptionIfOverloadedMethodAnnotationExists() {
+        Annotations.assertMethodAnnotation(Dummy.class, "dummyMethod", new Class<?>[]{String.class}, DummyMethodAnnotationUnused.class);
+        Annotations.assertMethodAnnotation(Dummy.class, "dummyMethod", "(Ljava/lang/String;)V", DummyMethodAnnotationUnused.class);
+    }
+
+    @Test
+    void shouldThrowExceptionIfOverloadedMethodDoesNotExists() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertMethodAnnotation(Dummy.class, "dummyMethod", new Class<?>[]{int.class}, DummyMethodAnnotation.class)
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(NoSuchMethodException.class);
+    }
+
+    @Test
+    void shouldOnlyFindDeclaredMethodsByName() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertMethodAnnotation(DummyChild.class, "dummyMethod", DummyMethodAnnotation.class)
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(NoSuchMethodException.class);
+        assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertMethodAnnotation(DummyChild.class, "toString")
+        );
+        Annotations.assertMethodAnnotation(DummyChild.class, "dummyMethod", new Class<?>[0], DummyMethodAnnotation.class);
+    }
+
+    @Test
+    void shouldNotThrowsExceptionIfOverloadedMethodAnnotationParameterIsEqual() {
+        Annotations.assertMethodAnnotationParameter(Dummy.class, "dummyMethod", new Class<?>[]{String.class}, DummyMethodAnnotationUnused.class, "value", "overload");
+        Annotations.assertMethodAnnotationParameter(Dummy.class, "dummyMethod", "(Ljava/lang/String;)V", DummyMethodAnnotationUnused.class, "value", "overload");
+    }
+
+    @Test
+    void shouldNotThrowsExceptionIfEveryClassInPackageHasAnnotation() {
+        Annotations.assertPackageAnnotation("testutils.classpath.fixtures.annotated", ScanMarker.class);
+    }
+
+    @Test
+    void shouldThrowExceptionIfAClassInPackageHasNotAnnotation() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertPackageAnnotation("testutils.classpath.fixtures.mixed", ScanMarker.class)
+        );
+
+        assertThat(exception.getMessage())
+                .contains("testutils.classpath.fixtures.mixed: 1 annotation assertions failed")
+                .contains("No annotation found for testutils.classpath.fixtures.ScanMarker in testutils.classpath.fixtures.mixed.NotAnnotated");
+    }
+
+    @Test
+    void shouldAssertSubpackagesOnlyWhenRecursive() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertPackageAnnotation("testutils.classpath.fixtures", true, ScanMarker.class)
+        );
+
+        assertThat(exception.getMessage())
+                .contains("No annotation found for testutils.classpath.fixtures.ScanMarker in testutils.classpath.fixtures.mixed.NotAnnotated")
+                .doesNotContain("fixtures.annotated");
+    }
+
+    @Test
+    void shouldThrowExceptionIfPackageHasNotClasses() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertPackageAnnotation("testutils.nothing", ScanMarker.class)
+        );
+
+        assertThat(exception.getMessage())
+                .contains("No classes found in testutils.nothing");
+    }
+
+    @Test
+    void shouldNotThrowsExceptionIfEveryClassAnnotationParameterIsEqual() {
+        Annotations.assertClassAnnotationParameters(DummyWithAttributes.class, DummyAttributesAnnotation.class, Map.of(
+                "name", "dummy",
+                "order", 2,
+                "tags", new String[]{"a", "b"}));
+    }
+
+    @Test
+    void shouldThrowExceptionWithEveryAnnotationParameterThatIsNotEqual() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertClassAnnotationParameters(DummyWithAttributes.class, DummyAttributesAnnotation.class, Map.of(
+                        "name", "other",
+                        "tags", new String[]{"a"}))
+        );
+
+        assertThat(exception.getMessage())
+                .contains("Expected: other and was dummy for parameter name")
+                .contains("Expected: [a] and was [a, b] for parameter tags");
+    }
+
+    @Test
+    void shouldThrowExceptionIfAnyAnnotationParameterDoesNotExists() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertFieldAnnotationParameters(DummyWithAttributes.class, "field", DummyAttributesAnnotation.class, Map.of(
+                        "name", "field",
+                        "noParameter", "value"))
+        );
+
+        assertThat(exception.getMessage())
+                .contains("No parameter noParameter found");
+    }
+
+    @Test
+    void shouldCompareArrayAnnotationParameterByContent() {
+        Annotations.assertMethodAnnotationParameter(DummyWithAttributes.class, "method", DummyAttributesAnnotation.class, "tags", new String[]{"c"});
+    }
+
+    @Test
+    void shouldNotThrowsExceptionIfAnnotationMatchesExpectedInstance() {
+        DummyAttributesAnnotation expected = DummyWithAttributes.class.getAnnotation(DummyAttributesAnnotation.class);
+
+        Annotations.assertClassAnnotationParameters(DummyWithAttributes.class, expected);
+    }
+
+    @Test
+    void shouldThrowExceptionIfAnnotationDoesNotMatchExpectedInstance() throws NoSuchMethodException {
+        DummyAttributesAnnotation expected = DummyWithAttributes.class.getDeclaredMethod("method").getAnnotation(DummyAttributesAnnotation.class);
+
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.assertFieldAnnotationParameters(DummyWithAttributes.class, "field", expected)
+        );
+
+        assertThat(exception.getMessage())
+                .contains("Expected: [c] and was [] for parameter tags");
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.TYPE)
     @interface DummyClassAnnotation {
@@ -291,7 +432,7 @@ class AnnotationsTest {
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.METHOD)
     @interface DummyMethodAnnotationUnused {
-
+        String value() default "";
     }
 
     @DummyClassAnnotation
@@ -303,6 +444,35 @@ class AnnotationsTest {
         void dummyMethod() {
 
         }
+
+        @DummyMethodAnnotationUnused("overload")
+        void dummyMethod(String value) {
+
+        }
+    }
+
+    class DummyChild extends Dummy {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+    @interface DummyAttributesAnnotation {
+        String name() default "";
+
+        int order() default 0;
+
+        String[] tags() default {};
+    }
+
+    @DummyAttributesAnnotation(name = "dummy", order = 2, tags = {"a", "b"})
+    class DummyWithAttributes {
+        @DummyAttributesAnnotation(name = "field")
+        String field;
+
+        @DummyAttributesAnnotation(tags = "c")
+        void method() {
+
+        }
     }
 
     class DummyWithoutAnnotation {
@@ -0,0 +1,137 @@
+package testutils.annotation;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassAnnotationAssertionTest {
+
+    @Test
+    void shouldNotThrowsExceptionIfEveryExpectationMatches() {
+        Annotations.forClass(Dummy.class)
+                .annotation(DummyAnnotation.class).param("value", "class_value")
+                .field("dummy", DummyAnnotation.class).param("value", "field_value")
+                .field("dummyWithoutAnnotation")
+                .method("dummyMethod", DummyAnnotation.class)
+                .method("dummyMethod", new Class<?>[]{int.class}, DummyAnnotation.class).param("value", "overload_value")
+                .verify();
+    }
+
+    @Test
+    void shouldReportAllFailuresTogether() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.forClass(Dummy.class)
+                        .annotation(DummyAnnotation.class).param("value", "value")
+                        .field("dummyWithoutAnnotation", DummyAnnotation.class)
+                        .field("no_dummy", DummyAnnotation.class)
+                        .method("dummyMethod", DummyAnnotation.class).param("noParameter", null)
+                        .verify()
+        );
+
+        assertThat(exception.getMessage())
+                .contains("4 annotation assertions failed")
+                .contains("Expected: value and was class_value for parameter value")
+                .contains("dummyWithoutAnnotation: Expected 1 annotations, but found 0")
+                .contains("java.lang.NoSuchFieldException: no_dummy")
+                .contains("No parameter noParameter found");
+        assertThat(exception.getSuppressed().length)
+                .isEqualTo(4);
+    }
+
+    @Test
+    void shouldReportMissingAnnotationOnceAndSkipItsParams() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.forClass(Dummy.class)
+                        .field("dummyWithoutAnnotation", DummyAnnotation.class).param("value", "value").param("other", "other")
+                        .verify()
+        );
+
+        assertThat(exception.getMessage())
+                .contains("1 annotation assertions failed")
+                .doesNotContain("No annotation found");
+        assertThat(exception.getSuppressed().length)
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCheckParamsOnlyAgainstTheAnnotationTheyFollow() {
+        Annotations.forClass(Dummy.class)
+                .field("multiple", DummyAnnotation.class, OtherAnnotation.class).param("name", "other_name")
+                .verify();
+
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> Annotations.forClass(Dummy.class)
+                        .field("multiple", DummyAnnotation.class, OtherAnnotation.class).param("value", "multiple_value")
+                        .verify()
+        );
+
+        assertThat(exception.getMessage())
+                .contains("1 annotation assertions failed")
+                .contains("No parameter value found");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenParamFollowsNoAnnotation() {
+        Throwable exception = assertThrows(
+                IllegalStateException.class,
+                () -> Annotations.forClass(Dummy.class).field("dummyWithoutAnnotation").param("value", "value")
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No annotation expectation to add the parameter to");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenParamHasNotExpectation() {
+        Throwable exception = assertThrows(
+                IllegalStateException.class,
+                () -> Annotations.forClass(Dummy.class).param("value", "value")
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No annotation expectation to add the parameter to");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+    @interface DummyAnnotation {
+        String value() default "test_value";
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface OtherAnnotation {
+        String name();
+    }
+
+    @DummyAnnotation("class_value")
+    static class Dummy {
+        @DummyAnnotation("field_value")
+        String dummy;
+
+        String dummyWithoutAnnotation;
+
+        @DummyAnnotation("multiple_value")
+        @OtherAnnotation(name = "other_name")
+        String multiple;
+
+        @DummyAnnotation
+        void dummyMethod() {
+
+        }
+
+        @DummyAnnotation("overload_value")
+        void dummyMethod(int value) {
+
+        }
+    }
+}
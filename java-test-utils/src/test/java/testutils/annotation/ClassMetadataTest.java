@@ -0,0 +1,304 @@
+package testutils.annotation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testutils.classpath.MetadataSnapshot;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassMetadataTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void shouldCacheMetadataPerClass() {
+        assertThat(ClassMetadata.of(Dummy.class))
+                .isSameAs(ClassMetadata.of(Dummy.class));
+    }
+
+    @Test
+    void shouldIndexClassAnnotations() {
+        MemberMetadata metadata = ClassMetadata.of(Dummy.class).getClassMetadata();
+
+        assertThat(metadata.getName())
+                .isEqualTo(Dummy.class.toString());
+        assertThat(metadata.getAnnotationCount())
+                .isEqualTo(1);
+        assertThat(metadata.getAnnotation(DummyAnnotation.class).getTypeName())
+                .isEqualTo(DummyAnnotation.class.getName());
+    }
+
+    @Test
+    void shouldIndexFieldAnnotations() {
+        MemberMetadata metadata = ClassMetadata.of(Dummy.class).getField("dummy");
+
+        assertThat(metadata.getAnnotation(DummyAnnotation.class).getTypeName())
+                .isEqualTo(DummyAnnotation.class.getName());
+    }
+
+    @Test
+    void shouldIndexMethodAnnotations() {
+        MemberMetadata metadata = ClassMetadata.of(Dummy.class).getMethod("dummyMethod");
+
+        assertThat(metadata.getAnnotation(DummyAnnotation.class).getTypeName())
+                .isEqualTo(DummyAnnotation.class.getName());
+    }
+
+    @Test
+    void shouldReturnNullWhenAnnotationIsNotPresent() {
+        MemberMetadata metadata = ClassMetadata.of(Dummy.class).getMethod("dummyMethod");
+
+        assertThat(metadata.getAnnotation(Retention.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldThrowExceptionIfFieldDoesNotExists() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> ClassMetadata.of(Dummy.class).getField("no_dummy")
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(NoSuchFieldException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionIfMethodDoesNotExists() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> ClassMetadata.of(Dummy.class).getMethod("no_dummyMethod")
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(NoSuchMethodException.class);
+    }
+
+    @Test
+    void shouldFindAnnotationAttribute() {
+        assertThat(AnnotationAttributes.read(
+                AnnotationAttributes.find(DummyAnnotation.class, "value"),
+                Dummy.class.getAnnotation(DummyAnnotation.class)))
+                .isEqualTo("test_value");
+        assertThat(AnnotationAttributes.find(DummyAnnotation.class, "noParameter"))
+                .isNull();
+    }
+
+    @Test
+    void shouldIndexOverloadedMethodsBySignature() {
+        ClassMetadata metadata = ClassMetadata.of(Dummy.class);
+
+        assertThat(metadata.getMethod("overloaded", String.class).getAnnotationCount())
+                .isEqualTo(1);
+        assertThat(metadata.getMethod("overloaded", int.class, String[].class).getAnnotationCount())
+                .isEqualTo(0);
+    }
+
+    @Test
+    void shouldIndexMethodsByDescriptor() {
+        ClassMetadata metadata = ClassMetadata.of(Dummy.class);
+
+        assertThat(metadata.getMethod("overloaded", "(Ljava/lang/String;)V"))
+                .isSameAs(metadata.getMethod("overloaded", String.class));
+        assertThat(metadata.getMethod("overloaded", "(I[Ljava/lang/String;)V"))
+                .isSameAs(metadata.getMethod("overloaded", int.class, String[].class));
+    }
+
+    @Test
+    void shouldThrowExceptionIfDescriptorIsInvalid() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> ClassMetadata.of(Dummy.class).getMethod("overloaded", "(Ljava/lang/String)V")
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Invalid method descriptor: (Ljava/lang/String)V");
+    }
+
+    @Test
+    void shouldThrowExceptionIfSignatureDoesNotExists() {
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> ClassMetadata.of(Dummy.class).getMethod("overloaded", long.class)
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(NoSuchMethodException.class);
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo(Dummy.class.getName() + ".overloaded(long)");
+    }
+
+    @Test
+    void shouldIndexInheritedAndDefaultMethods() {
+        ClassMetadata metadata = ClassMetadata.of(DummyChild.class);
+
+        assertThat(metadata.getMethod("dummyMethod", new Class<?>[0]))
+                .isSameAs(ClassMetadata.of(Dummy.class).getMethod("dummyMethod"));
+        assertThat(metadata.getMethod("defaultMethod", "()V").getAnnotation(DummyAnnotation.class))
+                .isNotNull();
+        assertThat(metadata.getMethod("toString", new Class<?>[0]).getAnnotationCount())
+                .isEqualTo(0);
+    }
+
+    @Test
+    void shouldOnlyFindDeclaredMethodsByName() {
+        ClassMetadata metadata = ClassMetadata.of(DummyChild.class);
+
+        Throwable exception = assertThrows(
+                AssertionError.class,
+                () -> metadata.getMethod("dummyMethod")
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(NoSuchMethodException.class);
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo(DummyChild.class.getName() + ".dummyMethod()");
+        assertThrows(AssertionError.class, () -> metadata.getMethod("defaultMethod"));
+        assertThrows(AssertionError.class, () -> metadata.getMethod("toString"));
+    }
+
+    @Test
+    void shouldNotIndexPrivateInheritedOrAbstractInterfaceMethods() {
+        ClassMetadata metadata = ClassMetadata.of(DummyChild.class);
+
+        assertThrows(AssertionError.class, () -> metadata.getMethod("privateMethod", new Class<?>[0]));
+        assertThrows(AssertionError.class, () -> metadata.getMethod("abstractMethod", new Class<?>[0]));
+    }
+
+    @Test
+    void shouldInheritInheritedClassAnnotationsLikeReflection() {
+        MemberMetadata metadata = ClassMetadata.of(InheritedChild.class).getClassMetadata();
+
+        assertThat(metadata.getAnnotationCount())
+                .isEqualTo(InheritedChild.class.getAnnotations().length);
+        assertThat(metadata.getAnnotation(InheritedAnnotation.class).isAttributeEqual("value", "parent"))
+                .isTrue();
+        assertThat(metadata.getAnnotation(DummyAnnotation.class).isAttributeEqual("value", "child"))
+                .isTrue();
+    }
+
+    @Test
+    void shouldRestoreMetadataFromSnapshot() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+        ClassMetadata.reflect(Dummy.class).toSnapshot(snapshot, Dummy.class);
+        ClassMetadata.reflect(DetailedDummy.class).toSnapshot(snapshot, DetailedDummy.class);
+        snapshot.save();
+
+        MetadataSnapshot reopened = MetadataSnapshot.open(snapshotFile());
+        ClassMetadata metadata = ClassMetadata.fromSnapshot(reopened, Dummy.class);
+        AnnotationMetadata detailed = ClassMetadata.fromSnapshot(reopened, DetailedDummy.class)
+                .getClassMetadata()
+                .getAnnotation(DetailedAnnotation.class);
+
+        assertThat(metadata.getClassMetadata().getAnnotation(DummyAnnotation.class).isAttributeEqual("value", "test_value"))
+                .isTrue();
+        assertThat(metadata.getField("dummy").getAnnotationCount())
+                .isEqualTo(1);
+        assertThat(metadata.getMethod("overloaded", String.class).getAnnotation(DummyAnnotation.class))
+                .isNotNull();
+        assertThat(metadata.getMethod("overloaded", int.class, String[].class).getAnnotationCount())
+                .isEqualTo(0);
+        assertThat(detailed.isAttributeEqual("type", ElementType.FIELD))
+                .isTrue();
+        assertThat(detailed.isAttributeEqual("types", new Class<?>[]{String.class, int[].class}))
+                .isTrue();
+        assertThat(detailed.isAttributeEqual("numbers", new int[]{1, 2}))
+                .isTrue();
+        assertThat(detailed.isAttributeEqual("retention", DetailedDummy.class.getAnnotation(DetailedAnnotation.class).retention()))
+                .isTrue();
+    }
+
+    @Test
+    void shouldNotReadMetadataFromDisabledOrEmptySnapshot() throws IOException {
+        assertThat(ClassMetadata.fromSnapshot(MetadataSnapshot.open(snapshotFile()), Dummy.class))
+                .isNull();
+    }
+
+    private Path snapshotFile() {
+        return cacheDirectory.resolve("metadata.snapshot");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+    @interface DummyAnnotation {
+        String value() default "test_value";
+    }
+
+    @DummyAnnotation
+    static class Dummy {
+        @DummyAnnotation
+        String dummy;
+
+        @DummyAnnotation
+        void dummyMethod() {
+
+        }
+
+        @DummyAnnotation
+        void overloaded(String value) {
+
+        }
+
+        void overloaded(int index, String... values) {
+
+        }
+
+        @DummyAnnotation
+        private void privateMethod() {
+
+        }
+    }
+
+    interface DummyInterface {
+        @DummyAnnotation
+        default void defaultMethod() {
+
+        }
+
+        @DummyAnnotation
+        void abstractMethod();
+    }
+
+    abstract static class DummyChild extends Dummy implements DummyInterface {
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface InheritedAnnotation {
+        String value();
+    }
+
+    @InheritedAnnotation("parent")
+    @DummyAnnotation("parent")
+    static class InheritedParent {
+    }
+
+    @DummyAnnotation("child")
+    static class InheritedChild extends InheritedParent {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface DetailedAnnotation {
+        ElementType type();
+
+        Class<?>[] types();
+
+        int[] numbers();
+
+        Retention retention();
+    }
+
+    @DetailedAnnotation(type = ElementType.FIELD, types = {String.class, int[].class}, numbers = {1, 2}, retention = @Retention(RetentionPolicy.CLASS))
+    static class DetailedDummy {
+    }
+}
@@ -0,0 +1,79 @@
+package testutils.classpath;
+
+import org.junit.jupiter.api.Test;
+import testutils.classpath.fixtures.ScanMarker;
+import testutils.classpath.fixtures.annotated.FirstAnnotated;
+import testutils.classpath.fixtures.annotated.SecondAnnotated;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassFileTest {
+
+    @Test
+    void shouldReadClassName() throws IOException {
+        ClassFile classFile = read(FirstAnnotated.class);
+
+        assertThat(classFile.getName())
+                .isEqualTo(FirstAnnotated.class.getName());
+        assertThat(classFile.getPackageName())
+                .isEqualTo(FirstAnnotated.class.getPackage().getName());
+    }
+
+    @Test
+    void shouldReadRuntimeVisibleAnnotations() throws IOException {
+        ClassFile classFile = read(SecondAnnotated.class);
+
+        assertThat(classFile.getAnnotations())
+                .containsExactly(Deprecated.class.getName(), ScanMarker.class.getName());
+        assertThat(classFile.hasAnnotation(ScanMarker.class))
+                .isTrue();
+    }
+
+    @Test
+    void shouldReadClassWithoutAnnotations() throws IOException {
+        ClassFile classFile = read(ClassFileTest.class);
+
+        assertThat(classFile.getAnnotations())
+                .isEmpty();
+        assertThat(classFile.hasAnnotation(ScanMarker.class))
+                .isFalse();
+    }
+
+    @Test
+    void shouldDetectAnonymousClass() throws IOException {
+        Class<?> anonymous = new Object() {
+        }.getClass();
+
+        assertThat(read(anonymous).isAnonymousOrLocal())
+                .isTrue();
+        assertThat(read(FirstAnnotated.class).isAnonymousOrLocal())
+                .isFalse();
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenBytesAreNotAClassFile() {
+        Throwable exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassFile.read(ByteBuffer.wrap(new byte[]{0, 1, 2, 3}))
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Not a class file");
+    }
+
+    static ClassFile read(Class<?> type) throws IOException {
+        return ClassFile.read(ByteBuffer.wrap(bytes(type)));
+    }
+
+    static byte[] bytes(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream inputStream = type.getResourceAsStream(resource)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
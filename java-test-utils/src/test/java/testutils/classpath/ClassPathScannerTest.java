@@ -0,0 +1,154 @@
+package testutils.classpath;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testutils.classpath.fixtures.ScanMarker;
+import testutils.classpath.fixtures.annotated.FirstAnnotated;
+import testutils.classpath.fixtures.annotated.SecondAnnotated;
+import testutils.classpath.fixtures.mixed.Annotated;
+import testutils.classpath.fixtures.mixed.NotAnnotated;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassPathScannerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldThrowsExceptionWhenInstanceClassPathScannerClass() {
+        Throwable exception = assertThrows(
+                InvocationTargetException.class, () -> {
+                    Constructor<ClassPathScanner> declaredConstructor = ClassPathScanner.class.getDeclaredConstructor();
+                    declaredConstructor.setAccessible(true);
+                    declaredConstructor.newInstance();
+                });
+
+        assertThat(exception.getCause())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo("Utility class");
+    }
+
+    @Test
+    void shouldScanPackageDirectory() throws IOException {
+        List<String> names = names(ClassPathScanner.scanPackage("testutils.classpath.fixtures.mixed"));
+
+        assertThat(names)
+                .containsExactlyInAnyOrder(Annotated.class.getName(), NotAnnotated.class.getName());
+    }
+
+    @Test
+    void shouldNotScanSubpackagesByDefault() throws IOException {
+        assertThat(names(ClassPathScanner.scanPackage("testutils.classpath.fixtures")))
+                .containsExactly(ScanMarker.class.getName());
+    }
+
+    @Test
+    void shouldScanSubpackagesWhenRecursive() throws IOException {
+        assertThat(names(ClassPathScanner.scanPackage("testutils.classpath.fixtures", true)))
+                .contains(ScanMarker.class.getName(), FirstAnnotated.class.getName(), SecondAnnotated.class.getName(),
+                        Annotated.class.getName(), NotAnnotated.class.getName());
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenPackageDoesNotExist() throws IOException {
+        assertThat(ClassPathScanner.scanPackage("testutils.classpath.nothing"))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldScanJarWithStoredAndDeflatedEntries() throws IOException {
+        Path jar = directory.resolve("fixtures.jar");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(output, FirstAnnotated.class, ZipEntry.DEFLATED);
+            writeEntry(output, SecondAnnotated.class, ZipEntry.STORED);
+            output.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            output.closeEntry();
+        }
+
+        List<ClassFile> classFiles = ClassPathScanner.scanJar(jar);
+
+        assertThat(names(classFiles))
+                .containsExactlyInAnyOrder(FirstAnnotated.class.getName(), SecondAnnotated.class.getName());
+    }
+
+    @Test
+    void shouldScanJarWithPrefix() throws IOException {
+        Path jar = directory.resolve("fixtures.jar");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(output, FirstAnnotated.class, ZipEntry.DEFLATED);
+            writeEntry(output, Annotated.class, ZipEntry.DEFLATED);
+        }
+
+        List<ClassFile> classFiles = ClassPathScanner.scanJar(jar, "testutils/classpath/fixtures/mixed/");
+
+        assertThat(names(classFiles))
+                .containsExactly(Annotated.class.getName());
+    }
+
+    @Test
+    void shouldScanOnlyDirectEntriesOfPrefixWhenNotRecursive() throws IOException {
+        Path jar = directory.resolve("fixtures.jar");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(output, ScanMarker.class, ZipEntry.DEFLATED);
+            writeEntry(output, Annotated.class, ZipEntry.DEFLATED);
+        }
+
+        assertThat(names(ClassPathScanner.scanJar(jar, "testutils/classpath/fixtures/", false)))
+                .containsExactly(ScanMarker.class.getName());
+        assertThat(names(ClassPathScanner.scanJar(jar, "testutils/classpath/fixtures/", true)))
+                .containsExactlyInAnyOrder(ScanMarker.class.getName(), Annotated.class.getName());
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenFileIsNotAJar() throws IOException {
+        Path file = directory.resolve("file.jar");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write(new byte[64]);
+        }
+
+        assertThrows(
+                IOException.class,
+                () -> ClassPathScanner.scanJar(file)
+        );
+    }
+
+    private static void writeEntry(ZipOutputStream output, Class<?> type, int method) throws IOException {
+        byte[] bytes = ClassFileTest.bytes(type);
+        ZipEntry entry = new ZipEntry(type.getName().replace('.', '/') + ".class");
+        entry.setMethod(method);
+
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setSize(bytes.length);
+            entry.setCompressedSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+
+        output.putNextEntry(entry);
+        output.write(bytes);
+        output.closeEntry();
+    }
+
+    private static List<String> names(List<ClassFile> classFiles) {
+        return classFiles.stream()
+                .map(ClassFile::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,218 @@
+package testutils.classpath;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetadataSnapshotTest {
+
+    private static final byte[] METADATA = {1, 2, 3, 4};
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void shouldOpenEmptySnapshotWhenFileDoesNotExist() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+
+        assertThat(snapshot.isEnabled())
+                .isTrue();
+        assertThat(snapshot.getTypeNames())
+                .isEmpty();
+        assertThat(snapshot.find(Dummy.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldPersistRecordedMetadata() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+        snapshot.record(Dummy.class, METADATA);
+        snapshot.save();
+
+        MetadataSnapshot reopened = MetadataSnapshot.open(snapshotFile());
+
+        assertThat(reopened.getTypeNames())
+                .containsExactly(Dummy.class.getName());
+        assertThat(bytes(reopened.find(Dummy.class)))
+                .isEqualTo(METADATA);
+    }
+
+    @Test
+    void shouldMergeWithSnapshotsSavedByOtherForks() throws IOException {
+        MetadataSnapshot first = MetadataSnapshot.open(snapshotFile());
+        MetadataSnapshot second = MetadataSnapshot.open(snapshotFile());
+        first.record(Dummy.class, METADATA);
+        second.record(MetadataSnapshotTest.class, new byte[]{5});
+        first.save();
+        second.save();
+
+        MetadataSnapshot reopened = MetadataSnapshot.open(snapshotFile());
+
+        assertThat(bytes(reopened.find(Dummy.class)))
+                .isEqualTo(METADATA);
+        assertThat(bytes(reopened.find(MetadataSnapshotTest.class)))
+                .isEqualTo(new byte[]{5});
+    }
+
+    @Test
+    void shouldMergeConcurrentSaves() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (Class<?> type : List.of(Dummy.class, MetadataSnapshotTest.class, Dependency.class)) {
+            MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+            snapshot.record(type, METADATA);
+            threads.add(new Thread(() -> {
+                try {
+                    snapshot.save();
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(MetadataSnapshot.open(snapshotFile()).getTypeNames())
+                .contains(Dummy.class.getName(), MetadataSnapshotTest.class.getName(), Dependency.class.getName());
+    }
+
+    @Test
+    void shouldPersistDependenciesOfRecordedMetadata() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+        snapshot.record(Dummy.class, List.of(Dependency.class, String.class), METADATA);
+        snapshot.save();
+
+        assertThat(bytes(MetadataSnapshot.open(snapshotFile()).find(Dummy.class)))
+                .isEqualTo(METADATA);
+    }
+
+    @Test
+    void shouldInvalidateEntriesWhenDependencyChanges() throws IOException {
+        writeSnapshot(MetadataSnapshot.MAGIC, MetadataSnapshot.hash(Dummy.class), Dependency.class.getName(), MetadataSnapshot.hash(Dependency.class) + 1);
+
+        assertThat(MetadataSnapshot.open(snapshotFile()).find(Dummy.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldInvalidateEntriesWhenDependencyIsMissing() throws IOException {
+        writeSnapshot(MetadataSnapshot.MAGIC, MetadataSnapshot.hash(Dummy.class), "testutils.classpath.Missing", 1);
+
+        assertThat(MetadataSnapshot.open(snapshotFile()).find(Dummy.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldInvalidateEntriesWhenClassFileChanges() throws IOException {
+        writeSnapshot(MetadataSnapshot.MAGIC, MetadataSnapshot.hash(Dummy.class) + 1);
+
+        MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+
+        assertThat(snapshot.getTypeNames())
+                .containsExactly(Dummy.class.getName());
+        assertThat(snapshot.find(Dummy.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldFindEntriesWhenClassFileIsUnchanged() throws IOException {
+        writeSnapshot(MetadataSnapshot.MAGIC, MetadataSnapshot.hash(Dummy.class));
+
+        assertThat(bytes(MetadataSnapshot.open(snapshotFile()).find(Dummy.class)))
+                .isEqualTo(METADATA);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSnapshotIsInvalid() throws IOException {
+        writeSnapshot(0, 0);
+
+        assertThrows(
+                IOException.class,
+                () -> MetadataSnapshot.open(snapshotFile())
+        );
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSnapshotIsTruncated() throws IOException {
+        Files.write(snapshotFile(), new byte[]{0x54, 0x55});
+
+        assertThrows(
+                IOException.class,
+                () -> MetadataSnapshot.open(snapshotFile())
+        );
+    }
+
+    @Test
+    void shouldNotRecordClassesWithoutClassFile() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(snapshotFile());
+        snapshot.record(String.class, METADATA);
+        snapshot.record(int[].class, METADATA);
+
+        assertThat(snapshot.getRecordedCount())
+                .isEqualTo(0);
+    }
+
+    private Path snapshotFile() {
+        return cacheDirectory.resolve(MetadataSnapshot.FILE_NAME);
+    }
+
+    private void writeSnapshot(int magic, long hash) throws IOException {
+        writeSnapshot(magic, hash, null, 0);
+    }
+
+    private void writeSnapshot(int magic, long hash, String dependency, long dependencyHash) throws IOException {
+        byte[] name = Dummy.class.getName().getBytes(StandardCharsets.UTF_8);
+
+        try (OutputStream outputStream = Files.newOutputStream(snapshotFile())) {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(magic);
+            output.writeShort(MetadataSnapshot.VERSION);
+            output.writeInt(1);
+            output.writeShort(name.length);
+            output.write(name);
+            output.writeInt(METADATA.length);
+            output.writeLong(hash);
+            if (dependency == null) {
+                output.writeShort(0);
+            } else {
+                byte[] dependencyName = dependency.getBytes(StandardCharsets.UTF_8);
+                output.writeShort(1);
+                output.writeShort(dependencyName.length);
+                output.write(dependencyName);
+                output.writeLong(dependencyHash);
+            }
+            output.write(METADATA);
+            output.flush();
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    static class Dummy {
+        String field;
+    }
+
+    @interface Dependency {
+        String value() default "";
+    }
+}
@@ -0,0 +1,14 @@
+package testutils.classpath.fixtures;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ScanMarker {
+    String value() default "";
+
+    String[] values() default {"first", "second"};
+}
@@ -0,0 +1,14 @@
+package testutils.classpath.fixtures.annotated;
+
+import testutils.classpath.fixtures.ScanMarker;
+
+@ScanMarker("first")
+public class FirstAnnotated {
+
+    private final Runnable anonymous = new Runnable() {
+        @Override
+        public void run() {
+
+        }
+    };
+}
@@ -0,0 +1,8 @@
+package testutils.classpath.fixtures.annotated;
+
+import testutils.classpath.fixtures.ScanMarker;
+
+@Deprecated
+@ScanMarker(values = {})
+public class SecondAnnotated {
+}
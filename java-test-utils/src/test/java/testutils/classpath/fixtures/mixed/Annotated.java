@@ -0,0 +1,7 @@
+package testutils.classpath.fixtures.mixed;
+
+import testutils.classpath.fixtures.ScanMarker;
+
+@ScanMarker
+public class Annotated {
+}
@@ -0,0 +1,4 @@
+package testutils.classpath.fixtures.mixed;
+
+public class NotAnnotated {
+}
@@ -0,0 +1,37 @@
+package testutils.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldKeepSmallValuesExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(3);
+        histogram.record(7);
+
+        assertThat(histogram.percentile(50))
+                .isEqualTo(3L);
+        assertThat(histogram.percentile(100))
+                .isEqualTo(7L);
+    }
+
+    @Test
+    void shouldBoundLargeValuesWithinOneEighth() {
+        for (long value : new long[]{16, 1_000, 123_456, 987_654_321L}) {
+            long upperBound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+
+            assertThat(upperBound >= value && upperBound <= value + value / 8)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        assertThat(new LatencyHistogram().percentile(99))
+                .isEqualTo(0L);
+    }
+}
@@ -0,0 +1,110 @@
+package testutils.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import testutils.annotation.Annotations;
+import testutils.reflection.Reflection;
+import testutils.reflection.ReflectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        Metrics.reset();
+        Metrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+    }
+
+    @Test
+    void shouldCountCallsAndDepth() throws ReflectionException {
+        Dummy dummy = new Dummy();
+
+        Reflection.getFieldValue(dummy, "field");
+        Reflection.getFieldValue(dummy, "superclassField");
+
+        OperationMetrics metrics = Metrics.get(Operation.GET_FIELD_VALUE);
+        assertThat(metrics.getCount())
+                .isEqualTo(2L);
+        assertThat(metrics.getFailureCount())
+                .isEqualTo(0L);
+        assertThat(metrics.getMaxDepth())
+                .isEqualTo(1L);
+        assertThat(metrics.getPercentileNanos(100) >= metrics.getPercentileNanos(50))
+                .isTrue();
+    }
+
+    @Test
+    void shouldCountFailures() {
+        assertThrows(ReflectionException.class, () -> Reflection.getStaticFieldValue(Dummy.class, "noField"));
+        assertThrows(AssertionError.class, () -> Annotations.assertClassAnnotation(Dummy.class, Deprecated.class));
+
+        assertThat(Metrics.get(Operation.GET_STATIC_FIELD_VALUE).getFailureCount())
+                .isEqualTo(1L);
+        assertThat(Metrics.get(Operation.ASSERT_CLASS_ANNOTATION).getFailureCount())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void shouldCountCacheLookups() throws ReflectionException {
+        Dummy dummy = new Dummy();
+
+        Reflection.setFieldValue(dummy, "field", "value");
+        Reflection.setFieldValue(dummy, "field", "value");
+
+        CacheMetrics metrics = Metrics.get(Cache.FIELDS);
+        assertThat(metrics.getLookupCount())
+                .isEqualTo(2L);
+        assertThat(metrics.getHitCount() >= 1)
+                .isTrue();
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() throws ReflectionException {
+        Metrics.setEnabled(false);
+
+        Reflection.getFieldValue(new Dummy(), "field");
+
+        assertThat(Metrics.get(Operation.GET_FIELD_VALUE).getCount())
+                .isEqualTo(0L);
+        assertThat(Metrics.get(Cache.FIELDS).getLookupCount())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void shouldReportOperationsAndCaches() throws ReflectionException {
+        Reflection.getFieldValue(new Dummy(), "field");
+
+        assertThat(Metrics.report())
+                .contains("getFieldValue")
+                .contains("count=1")
+                .contains("fields");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenPercentileIsOutOfRange() {
+        Throwable exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> Metrics.get(Operation.GET_FIELD_VALUE).getPercentileNanos(101)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Percentile out of range: 101.0");
+    }
+
+    static class DummySuperclass {
+        private String superclassField;
+    }
+
+    static class Dummy extends DummySuperclass {
+        private String field;
+    }
+}
@@ -0,0 +1,135 @@
+package testutils.metrics;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testutils.annotation.Annotations;
+import testutils.reflection.Reflection;
+import testutils.reflection.ReflectionException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        for (EventType eventType : FlightRecorder.getFlightRecorder().getEventTypes()) {
+            if (eventType.getName().startsWith("testutils.")) {
+                assertThat(eventType.isEnabled())
+                        .isFalse();
+            }
+        }
+    }
+
+    @Test
+    void shouldEmitEventsWhileRecording() throws IOException, ReflectionException {
+        Path file = directory.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("testutils.Operation");
+            recording.enable("testutils.FieldResolution");
+            recording.enable("testutils.FieldAccessorCreation");
+            recording.enable("testutils.AnnotationScan");
+            recording.start();
+
+            Reflection.getFieldValue(new Dummy(), "field");
+            Annotations.assertClassAnnotation(Dummy.class, Deprecated.class);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<String> operations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("testutils.Operation"))
+                .map(event -> event.getString("operation") + ":" + event.getString("member"))
+                .collect(Collectors.toList());
+        List<String> names = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toList());
+
+        assertThat(operations)
+                .contains("getFieldValue:field", "assertClassAnnotation:null");
+        assertThat(names)
+                .contains("testutils.FieldResolution", "testutils.FieldAccessorCreation", "testutils.AnnotationScan");
+    }
+
+    @Test
+    void shouldTimeOperationsWithEventDuration() throws IOException, ReflectionException {
+        Path file = directory.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("testutils.Operation");
+            recording.start();
+
+            Reflection.getFieldValue(new Dummy(), "field");
+            Annotations.forClass(Dummy.class).annotation(Deprecated.class).verify();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("testutils.Operation"))
+                .collect(Collectors.toList());
+
+        assertThat(events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()))
+                .contains("getFieldValue", "forClass.verify");
+        for (RecordedEvent event : events) {
+            assertThat(event.hasField("elapsed"))
+                    .isFalse();
+            assertThat(event.getDuration().isNegative())
+                    .isFalse();
+            assertThat(event.getEndTime().isBefore(event.getStartTime()))
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void shouldCompleteInterleavedOperationsAndOperationsEndedOnAnotherThread() throws Exception {
+        Path file = directory.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("testutils.Operation");
+            recording.start();
+
+            Timing outer = Metrics.start();
+            Timing inner = Metrics.start();
+            Metrics.record(Operation.GET_FIELD_VALUE, outer, Dummy.class, "outer");
+            Metrics.record(Operation.GET_FIELD_VALUE, inner, Dummy.class, "inner");
+
+            Timing moved = Metrics.start();
+            Thread thread = new Thread(() -> Metrics.record(Operation.SET_FIELD_VALUE, moved, Dummy.class, "moved"));
+            thread.start();
+            thread.join();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> members = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("testutils.Operation"))
+                .map(event -> event.getString("member"))
+                .collect(Collectors.toList());
+
+        assertThat(members)
+                .contains("outer", "inner", "moved");
+    }
+
+    @Deprecated
+    static class Dummy {
+        private String field = "value";
+    }
+}
@@ -0,0 +1,101 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyPlanTest {
+
+    @Test
+    void shouldCacheInstancePlanPerClass() {
+        assertThat(CopyPlan.forInstance(Dummy.class))
+                .isSameAs(CopyPlan.forInstance(Dummy.class));
+    }
+
+    @Test
+    void shouldIncludeDeclaredAndInheritedInstanceFields() {
+        assertThat(CopyPlan.forInstance(Dummy.class).size())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldIncludeOnlyWritableStaticFields() {
+        assertThat(CopyPlan.forStatics(Dummy.class).size())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldCaptureAndRestoreValues() throws ReflectionException {
+        Dummy dummy = new Dummy();
+        CopyPlan plan = CopyPlan.forInstance(Dummy.class);
+        Object[] values = plan.capture(dummy);
+
+        dummy.field = "changed";
+        dummy.intField = 10;
+        dummy.fieldSuperclass = "changedSuperclass";
+        plan.restore(dummy, values);
+
+        assertThat(dummy.field)
+                .isEqualTo("value");
+        assertThat(dummy.intField)
+                .isEqualTo(0);
+        assertThat(dummy.fieldSuperclass)
+                .isEqualTo("valueSuperclass");
+    }
+
+    @Test
+    void shouldResetContainersMutatedInPlace() throws ReflectionException {
+        Containers containers = new Containers();
+        List<String> list = containers.list;
+        Map<String, Integer> map = containers.map;
+        CopyPlan plan = CopyPlan.forInstance(Containers.class);
+        Object[] values = plan.capture(containers);
+
+        containers.list.add("c");
+        containers.map.put("b", 2);
+        containers.array[0] = 10;
+        containers.fixedSize.set(0, "z");
+        plan.restore(containers, values);
+        containers.list.remove("a");
+        plan.restore(containers, values);
+
+        assertThat(containers.list)
+                .isSameAs(list)
+                .containsExactly("a", "b");
+        assertThat(containers.map)
+                .isSameAs(map)
+                .isEqualTo(Map.of("a", 1));
+        assertThat(containers.array)
+                .isEqualTo(new int[]{1, 2});
+        assertThat(containers.fixedSize)
+                .containsExactly("x", "y");
+        assertThat(containers.immutable)
+                .containsExactly("i");
+    }
+
+    static class Containers {
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+        Map<String, Integer> map = new HashMap<>(Map.of("a", 1));
+        int[] array = {1, 2};
+        List<String> fixedSize = Arrays.asList("x", "y");
+        List<String> immutable = List.of("i");
+    }
+
+    static class DummySuperclass {
+        private static String staticFieldSuperclass = "staticValueSuperclass";
+        String fieldSuperclass = "valueSuperclass";
+    }
+
+    static class Dummy extends DummySuperclass {
+        private static final String CONSTANT = "constant";
+        private static String staticField = "staticValue";
+        String field = "value";
+        int intField;
+    }
+}
@@ -0,0 +1,314 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeepComparisonTest {
+
+    @Test
+    void shouldBeEqualWhenGraphsHaveSameState() throws ReflectionException {
+        assertThat(DeepComparison.equals(order("zip", 1), order("zip", 1)))
+                .isTrue();
+        assertThat(DeepComparison.diff(order("zip", 1), order("zip", 1)))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldReportPathOfDifferentFields() throws ReflectionException {
+        Order expected = order("zip", 1);
+        Order actual = order("other", 2);
+
+        assertThat(paths(DeepComparison.diff(expected, actual)))
+                .containsExactly("quantity", "customer.addresses[0].zip");
+    }
+
+    @Test
+    void shouldStopAtFirstDifference() throws ReflectionException {
+        assertThat(DeepComparison.equals(order("zip", 1), order("other", 2)))
+                .isFalse();
+    }
+
+    @Test
+    void shouldCompareFloatingPointFieldsByBits() throws ReflectionException {
+        Order expected = order("zip", 1);
+        Order actual = order("zip", 1);
+        expected.price = Double.NaN;
+        actual.price = Double.NaN;
+
+        assertThat(DeepComparison.equals(expected, actual))
+                .isTrue();
+    }
+
+    @Test
+    void shouldHandleCycles() throws ReflectionException {
+        Node expected = cycle(1);
+        Node actual = cycle(1);
+
+        assertThat(DeepComparison.equals(expected, actual))
+                .isTrue();
+        assertThat(paths(DeepComparison.diff(expected, cycle(2))))
+                .containsExactly("value", "next.value");
+    }
+
+    @Test
+    void shouldCompareLongChainsIteratively() throws ReflectionException {
+        assertThat(DeepComparison.equals(chain(100_000), chain(100_000)))
+                .isTrue();
+    }
+
+    @Test
+    void shouldReportCollectionAndMapDifferences() throws ReflectionException {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("list", new LinkedList<>(Arrays.asList("a", "b")));
+        expected.put("missing", "value");
+        Map<String, Object> actual = new LinkedHashMap<>();
+        actual.put("list", new LinkedList<>(Arrays.asList("a", "c")));
+        actual.put("extra", "value");
+
+        List<Difference> differences = DeepComparison.diff(expected, actual);
+
+        assertThat(paths(differences))
+                .containsExactly("[missing]", "[extra]", "[list][1]");
+        assertThat(differences.get(2).toString())
+                .isEqualTo("[list][1]: expected <b> but was <c>");
+    }
+
+    @Test
+    void shouldReportSizeDifference() throws ReflectionException {
+        List<Difference> differences = DeepComparison.diff(Arrays.asList(1, 2), Arrays.asList(1, 2, 3));
+
+        assertThat(paths(differences))
+                .containsExactly("size()");
+        assertThat(differences.get(0).getActual())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldReportPrimitiveArrayIndexes() throws ReflectionException {
+        assertThat(paths(DeepComparison.diff(new int[]{1, 2, 3, 4}, new int[]{1, 0, 3, 0})))
+                .containsExactly("[1]", "[3]");
+    }
+
+    @Test
+    void shouldCompareWideCollectionsInParallel() throws ReflectionException {
+        List<Order> expected = new ArrayList<>();
+        List<Order> actual = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            expected.add(order("zip", i));
+            actual.add(order(i == 10 || i == 4000 ? "other" : "zip", i));
+        }
+
+        List<Difference> sequential = DeepComparison.diff(expected, actual);
+        List<Difference> parallel = DeepComparison.diff(expected, actual, ForkJoinPool.commonPool());
+
+        assertThat(paths(parallel))
+                .containsExactly("[10].customer.addresses[0].zip", "[4000].customer.addresses[0].zip");
+        assertThat(paths(parallel))
+                .isEqualTo(paths(sequential));
+    }
+
+    @Test
+    void shouldMatchSetElementsDeeplyRegardlessOfOrder() throws ReflectionException {
+        Set<Address> expected = new LinkedHashSet<>(Arrays.asList(new Address("a"), new Address("b"), new Address("c")));
+        Set<Address> actual = new LinkedHashSet<>(Arrays.asList(new Address("c"), new Address("a"), new Address("b")));
+
+        assertThat(DeepComparison.equals(expected, actual))
+                .isTrue();
+        assertThat(DeepComparison.diff(expected, actual))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldReportUnmatchedSetElements() throws ReflectionException {
+        Address missing = new Address("b");
+        Address unexpected = new Address("x");
+        Set<Address> expected = new HashSet<>(Arrays.asList(new Address("a"), missing));
+        Set<Address> actual = new HashSet<>(Arrays.asList(unexpected, new Address("a")));
+
+        List<Difference> differences = DeepComparison.diff(expected, actual);
+
+        assertThat(differences.size())
+                .isEqualTo(2);
+        assertThat(differences.get(0).getExpected())
+                .isSameAs(missing);
+        assertThat(differences.get(0).getActual())
+                .isNull();
+        assertThat(differences.get(1).getExpected())
+                .isNull();
+        assertThat(differences.get(1).getActual())
+                .isSameAs(unexpected);
+        assertThat(DeepComparison.equals(expected, actual))
+                .isFalse();
+    }
+
+    @Test
+    void shouldCompareWideCollectionsInTheGivenPool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+
+        try {
+            List<Difference> differences = ForkJoinPool.commonPool()
+                    .submit(() -> DeepComparison.diff(new RecordingList(pools), new RecordingList(pools), pool))
+                    .get(30, TimeUnit.SECONDS);
+
+            assertThat(differences)
+                    .isEmpty();
+            assertThat(pools)
+                    .containsExactly(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCompareOnlyWhitelistedOrInaccessibleTypesByEquals() {
+        assertThat(ComparisonPlan.of(Integer.class).isValue())
+                .isTrue();
+        assertThat(ComparisonPlan.of(BigDecimal.class).isValue())
+                .isTrue();
+        assertThat(ComparisonPlan.of(LocalDate.class).isValue())
+                .isTrue();
+        assertThat(ComparisonPlan.of(AtomicInteger.class).isValue())
+                .isTrue();
+        assertThat(ComparisonPlan.of(Address.class).isValue())
+                .isFalse();
+    }
+
+    private static List<String> paths(List<Difference> differences) {
+        List<String> paths = new ArrayList<>();
+        for (Difference difference : differences) {
+            paths.add(difference.getPath());
+        }
+        return paths;
+    }
+
+    private static Order order(String zip, int quantity) {
+        Order order = new Order();
+        order.quantity = quantity;
+        order.customer = new Customer();
+        order.customer.addresses = new Address[]{new Address(zip)};
+        return order;
+    }
+
+    private static Node cycle(int value) {
+        Node first = new Node(value);
+        Node second = new Node(value);
+        first.next = second;
+        second.next = first;
+        return first;
+    }
+
+    private static Node chain(int length) {
+        Node head = new Node(0);
+        Node current = head;
+        for (int i = 1; i < length; i++) {
+            current.next = new Node(i);
+            current = current.next;
+        }
+        return head;
+    }
+
+    static class Order {
+        private int quantity;
+        private double price;
+        private Customer customer;
+    }
+
+    static class Customer {
+        private Address[] addresses;
+    }
+
+    @Test
+    void shouldCompareSetElementsDeeplyWhenEqualsIgnoresState() throws ReflectionException {
+        Set<Loose> expected = Set.of(new Loose("a"));
+        Set<Loose> actual = Set.of(new Loose("b"));
+
+        assertThat(DeepComparison.equals(expected, actual))
+                .isFalse();
+        assertThat(DeepComparison.diff(expected, actual).size())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldMatchSetsOfValuesByEquals() throws ReflectionException {
+        assertThat(DeepComparison.diff(Set.of("a", "b"), new HashSet<>(Arrays.asList("b", "a"))))
+                .isEmpty();
+    }
+
+    static class Loose {
+        private final String name;
+
+        Loose(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Loose;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    static class Address {
+        private final String zip;
+
+        Address(String zip) {
+            this.zip = zip;
+        }
+    }
+
+    static class RecordingList extends AbstractList<Integer> implements RandomAccess {
+        private final Set<ForkJoinPool> pools;
+
+        RecordingList(Set<ForkJoinPool> pools) {
+            this.pools = pools;
+        }
+
+        @Override
+        public Integer get(int index) {
+            Thread thread = Thread.currentThread();
+            if (thread instanceof ForkJoinWorkerThread) {
+                pools.add(((ForkJoinWorkerThread) thread).getPool());
+            }
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return 2 * DeepComparison.PARALLEL_THRESHOLD;
+        }
+    }
+
+    static class Node {
+        private final int value;
+        private Node next;
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldCacheTest {
+
+    @Test
+    void shouldThrowsExceptionWhenInstanceFieldCacheClass() {
+        Throwable exception = assertThrows(
+                InvocationTargetException.class, () -> {
+                    Constructor<FieldCache> declaredConstructor = FieldCache.class.getDeclaredConstructor();
+                    declaredConstructor.setAccessible(true);
+                    declaredConstructor.newInstance();
+                });
+
+        assertThat(exception.getCause())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo("Utility class");
+    }
+
+    @Test
+    void shouldFindDeclaredField() {
+        Field field = FieldCache.find(Dummy.class, "field");
+
+        assertThat(field.getDeclaringClass())
+                .isEqualTo(Dummy.class);
+    }
+
+    @Test
+    void shouldFindInheritedField() {
+        Field field = FieldCache.find(Dummy.class, "fieldSuperclass");
+
+        assertThat(field.getDeclaringClass())
+                .isEqualTo(DummySuperclass.class);
+    }
+
+    @Test
+    void shouldPreferSubclassFieldWhenShadowed() {
+        Field field = FieldCache.find(Dummy.class, "shadowed");
+
+        assertThat(field.getDeclaringClass())
+                .isEqualTo(Dummy.class);
+    }
+
+    @Test
+    void shouldReturnNullWhenFieldNotExists() {
+        assertThat(FieldCache.find(Dummy.class, "not_field"))
+                .isNull();
+    }
+
+    @Test
+    void shouldReturnSameAccessibleField() {
+        Field field = FieldCache.find(Dummy.class, "field");
+
+        assertThat(FieldCache.find(Dummy.class, "field"))
+                .isSameAs(field);
+        assertThat(field.canAccess(new Dummy()))
+                .isTrue();
+    }
+
+    static class DummySuperclass {
+        private String fieldSuperclass;
+        private String shadowed;
+    }
+
+    static class Dummy extends DummySuperclass {
+        private String field;
+        private String shadowed;
+    }
+}
@@ -0,0 +1,115 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldHandleTest {
+
+    private Dummy dummy;
+
+    @BeforeEach
+    void setUp() {
+        dummy = new Dummy();
+    }
+
+    @Test
+    void shouldReturnSameHandleForSameField() throws NoSuchFieldException {
+        Field field = Dummy.class.getDeclaredField("field");
+
+        assertThat(FieldHandle.of(field))
+                .isSameAs(FieldHandle.of(Dummy.class.getDeclaredField("field")));
+    }
+
+    @Test
+    void shouldGetAndSetField() throws Exception {
+        FieldHandle handle = FieldHandle.of(Dummy.class.getDeclaredField("field"));
+
+        handle.set(dummy, "expected");
+
+        assertThat(handle.get(dummy))
+                .isEqualTo("expected");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldNotChangeAccessibilityOfCallerField() throws Exception {
+        Field field = Dummy.class.getDeclaredField("callerField");
+
+        FieldHandle.of(field).set(dummy, "expected");
+
+        assertThat(field.isAccessible())
+                .isFalse();
+        assertThat(dummy.callerField)
+                .isEqualTo("expected");
+    }
+
+    @Test
+    void shouldGetAndSetFinalField() throws Exception {
+        FieldHandle handle = FieldHandle.of(Dummy.class.getDeclaredField("finalField"));
+
+        handle.set(dummy, "expected");
+
+        assertThat(handle.get(dummy))
+                .isEqualTo("expected");
+    }
+
+    @Test
+    void shouldGetAndSetPrimitiveField() throws Exception {
+        FieldHandle handle = FieldHandle.of(Dummy.class.getDeclaredField("primitiveField"));
+
+        handle.set(dummy, 10);
+
+        assertThat(handle.get(dummy))
+                .isEqualTo(10);
+    }
+
+    @Test
+    void shouldGetAndSetStaticFieldIgnoringObject() throws Exception {
+        FieldHandle handle = FieldHandle.of(Dummy.class.getDeclaredField("staticField"));
+
+        handle.set(dummy, "expected");
+
+        assertThat(handle.get(null))
+                .isEqualTo("expected");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenSetStaticFinalField() throws NoSuchFieldException {
+        FieldHandle handle = FieldHandle.of(Dummy.class.getDeclaredField("STATIC_FINAL_FIELD"));
+
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> handle.set(null, "expected")
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(IllegalAccessException.class);
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenValueTypeIsWrong() throws NoSuchFieldException {
+        FieldHandle handle = FieldHandle.of(Dummy.class.getDeclaredField("primitiveField"));
+
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> handle.set(dummy, "value")
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(ClassCastException.class);
+    }
+
+    static class Dummy {
+        private static final String STATIC_FINAL_FIELD = "value";
+        private static String staticField;
+        private final String finalField = "value";
+        private String field;
+        private int primitiveField;
+        private String callerField;
+    }
+}
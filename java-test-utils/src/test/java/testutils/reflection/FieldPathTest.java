@@ -0,0 +1,211 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldPathTest {
+
+    @Test
+    void shouldCacheCompiledPath() throws ReflectionException {
+        assertThat(FieldPath.of("customer.addresses"))
+                .isSameAs(FieldPath.of("customer.addresses"));
+    }
+
+    @Test
+    void shouldShareCompiledPathAcrossIndices() throws ReflectionException {
+        Order order = order();
+        FieldPath.of("customer.addresses[0].zip");
+        int shapes = FieldPath.shapeCount();
+
+        for (int i = 0; i < 100; i++) {
+            FieldPath.of("customer.addresses[" + i + "].zip");
+        }
+
+        assertThat(FieldPath.shapeCount())
+                .isEqualTo(shapes);
+        assertThat(FieldPath.of("customer.addresses[1].zip").get(order))
+                .isEqualTo("2000");
+        assertThat(FieldPath.of("customer.addresses[0].zip").get(order))
+                .isEqualTo("1000");
+        assertThat(FieldPath.of("customer.addresses[1]").toString())
+                .isEqualTo("customer.addresses[1]");
+    }
+
+    @Test
+    void shouldReadNestedFieldsThroughArraysAndLists() throws ReflectionException {
+        Order order = order();
+
+        assertThat(FieldPath.of("customer.addresses[1].zip").get(order))
+                .isEqualTo("2000");
+        assertThat(FieldPath.of("lines[0].quantities[1]").get(order))
+                .isEqualTo(20);
+        assertThat(FieldPath.of("lines[0]").get(order))
+                .isSameAs(order.lines.get(0));
+    }
+
+    @Test
+    void shouldWriteNestedFieldsThroughArraysAndLists() throws ReflectionException {
+        Order order = order();
+        Address address = new Address("3000");
+
+        FieldPath.of("customer.addresses[1].zip").set(order, "2500");
+        FieldPath.of("lines[0].quantities[0]").set(order, 15);
+        FieldPath.of("customer.addresses[0]").set(order, address);
+
+        assertThat(order.customer.addresses[1].zip)
+                .isEqualTo("2500");
+        assertThat(order.lines.get(0).quantities[0])
+                .isEqualTo(15);
+        assertThat(order.customer.addresses[0])
+                .isSameAs(address);
+    }
+
+    @Test
+    void shouldIndexRootCollections() throws ReflectionException {
+        List<Address> addresses = Arrays.asList(new Address("1000"), new Address("2000"));
+
+        assertThat(FieldPath.of("[1].zip").get(addresses))
+                .isEqualTo("2000");
+    }
+
+    @Test
+    void shouldResolveFieldsOfRuntimeTypes() throws ReflectionException {
+        Holder holder = new Holder();
+        holder.value = new Address("1000");
+
+        assertThat(FieldPath.of("value.zip").get(holder))
+                .isEqualTo("1000");
+
+        holder.value = new Line(new int[]{1});
+
+        assertThat(FieldPath.of("value.quantities[0]").get(holder))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldResolveSameShapeForDifferentRootsConcurrently() throws Exception {
+        Holder holder = new Holder();
+        holder.value = new int[]{1};
+        Tagged tagged = new Tagged();
+        tagged.value = new String[]{"tag"};
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> holders = executor.submit(() -> readRepeatedly(holder));
+            Future<Object> tags = executor.submit(() -> readRepeatedly(tagged));
+
+            assertThat(holders.get(5, TimeUnit.SECONDS))
+                    .isEqualTo(1);
+            assertThat(tags.get(5, TimeUnit.SECONDS))
+                    .isEqualTo("tag");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIntermediateValueIsNull() {
+        Order order = order();
+        order.customer = null;
+
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> FieldPath.of("customer.addresses[0].zip").get(order)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Null value at path: customer");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFieldDoesNotExist() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> FieldPath.of("customer.name").get(order())
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such field: name");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> FieldPath.of("customer.addresses[5]").get(order())
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPathIsInvalid() {
+        for (String path : Arrays.asList("", "a.", ".a", "a..b", "a[", "a[]", "a[x]", "a[0]b")) {
+            Throwable exception = assertThrows(ReflectionException.class, () -> FieldPath.of(path));
+
+            assertThat(exception.getMessage())
+                    .isEqualTo("Invalid path: " + path);
+        }
+    }
+
+    private static Order order() {
+        Order order = new Order();
+        order.customer = new Customer();
+        order.customer.addresses = new Address[]{new Address("1000"), new Address("2000")};
+        order.lines = new ArrayList<>();
+        order.lines.add(new Line(new int[]{10, 20}));
+        return order;
+    }
+
+    private static Object readRepeatedly(Object root) throws ReflectionException {
+        Object value = null;
+        for (int i = 0; i < 10_000; i++) {
+            value = FieldPath.of("value[0]").get(root);
+        }
+        return value;
+    }
+
+    static class Order {
+        private Customer customer;
+        private List<Line> lines;
+    }
+
+    static class Customer {
+        private Address[] addresses;
+    }
+
+    static class Address {
+        private String zip;
+
+        Address(String zip) {
+            this.zip = zip;
+        }
+    }
+
+    static class Line {
+        private final int[] quantities;
+
+        Line(int[] quantities) {
+            this.quantities = quantities;
+        }
+    }
+
+    static class Holder {
+        private Object value;
+    }
+
+    static class Tagged {
+        private Object[] value;
+    }
+}
@@ -0,0 +1,88 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchySpliteratorTest {
+
+    private static final Map<Class<?>, String[]> MEMBERS = Map.of(
+            String.class, new String[]{"a", "b", "c"},
+            Integer.class, new String[]{},
+            Long.class, new String[]{"d", "e", "f", "g"},
+            Double.class, new String[]{"h"}
+    );
+
+    private static final Class<?>[] CLASSES = {String.class, Integer.class, Long.class, Double.class};
+
+    @Test
+    void shouldTraverseAllMembersInOrder() {
+        List<String> members = new ArrayList<>();
+        spliterator().forEachRemaining(members::add);
+
+        assertThat(members)
+                .containsExactly("a", "b", "c", "d", "e", "f", "g", "h");
+    }
+
+    @Test
+    void shouldReportExactSize() {
+        assertThat(spliterator().estimateSize())
+                .isEqualTo(8L);
+        assertThat(spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED))
+                .isTrue();
+    }
+
+    @Test
+    void shouldSplitRecursivelyWithoutLosingMembers() {
+        List<String> members = new ArrayList<>();
+        collect(spliterator(), members);
+
+        assertThat(members)
+                .containsExactly("a", "b", "c", "d", "e", "f", "g", "h");
+    }
+
+    @Test
+    void shouldKeepSizesConsistentAcrossSplits() {
+        Spliterator<String> suffix = spliterator();
+        Spliterator<String> prefix = suffix.trySplit();
+
+        assertThat(prefix.estimateSize() + suffix.estimateSize())
+                .isEqualTo(8L);
+    }
+
+    @Test
+    void shouldAdvanceOneMemberAtATime() {
+        Spliterator<String> spliterator = spliterator();
+        List<String> members = new ArrayList<>();
+
+        while (spliterator.tryAdvance(members::add)) {
+            assertThat(spliterator.estimateSize())
+                    .isEqualTo(8L - members.size());
+        }
+
+        assertThat(members)
+                .hasSize(8);
+    }
+
+    private static void collect(Spliterator<String> spliterator, List<String> members) {
+        Spliterator<String> prefix = spliterator.trySplit();
+
+        if (prefix == null) {
+            spliterator.forEachRemaining(members::add);
+            return;
+        }
+
+        collect(prefix, members);
+        collect(spliterator, members);
+    }
+
+    private static HierarchySpliterator<String> spliterator() {
+        return new HierarchySpliterator<>(Arrays.copyOf(CLASSES, CLASSES.length), MEMBERS::get);
+    }
+}
@@ -0,0 +1,60 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstanceFactoryTest {
+
+    @Test
+    void shouldCacheFactoryPerClass() throws ReflectionException {
+        assertThat(InstanceFactory.of(Dummy.class))
+                .isSameAs(InstanceFactory.of(Dummy.class));
+    }
+
+    @Test
+    void shouldCreateInstanceWithoutRunningConstructor() throws ReflectionException {
+        Object instance = InstanceFactory.of(Dummy.class).newInstance();
+
+        assertThat(instance)
+                .isInstanceOf(Dummy.class);
+        assertThat(((Dummy) instance).field)
+                .isNull();
+    }
+
+    @Test
+    void shouldCreateDistinctInstances() throws ReflectionException {
+        InstanceFactory factory = InstanceFactory.of(Dummy.class);
+
+        assertThat(factory.newInstance())
+                .isNotSameAs(factory.newInstance());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTypeCannotBeAllocated() {
+        for (Class<?> type : new Class<?>[]{List.class, AbstractDummy.class, int.class, String[].class, Mode.class}) {
+            Throwable exception = assertThrows(ReflectionException.class, () -> InstanceFactory.of(type));
+
+            assertThat(exception.getMessage())
+                    .isEqualTo("Cannot allocate: " + type.getName());
+        }
+    }
+
+    enum Mode {
+        ON
+    }
+
+    abstract static class AbstractDummy {
+    }
+
+    static class Dummy {
+        private String field = "value";
+
+        Dummy() {
+            throw new IllegalStateException("Expensive constructor");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MembersTest {
+
+    @Test
+    void shouldThrowsExceptionWhenInstanceMembersClass() {
+        Throwable exception = assertThrows(
+                InvocationTargetException.class, () -> {
+                    Constructor<Members> declaredConstructor = Members.class.getDeclaredConstructor();
+                    declaredConstructor.setAccessible(true);
+                    declaredConstructor.newInstance();
+                });
+
+        assertThat(exception.getCause())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo("Utility class");
+    }
+
+    @Test
+    void shouldListHierarchyFromClassToInterfaces() {
+        assertThat(List.of(Members.hierarchy(Dummy.class)))
+                .containsExactly(Dummy.class, DummySuperclass.class, Object.class, DummyInterface.class);
+    }
+
+    @Test
+    void shouldStreamFieldsAcrossHierarchy() {
+        assertThat(names(Members.fields(Dummy.class).list()))
+                .containsExactly("counter", "field", "fieldSuperclass", "CONSTANT");
+    }
+
+    @Test
+    void shouldFilterByModifiersAnnotationsAndTypes() {
+        assertThat(names(Members.fields(Dummy.class).withModifiers(Modifier.STATIC).list()))
+                .containsExactly("counter", "CONSTANT");
+        assertThat(names(Members.fields(Dummy.class).withoutModifiers(Modifier.STATIC).ofType(String.class).list()))
+                .containsExactly("field", "fieldSuperclass");
+        assertThat(names(Members.methods(Dummy.class).annotatedWith(Marker.class).list()))
+                .containsExactly("method", "defaultMethod");
+        assertThat(Members.methods(Dummy.class).named("superclassMethod").first().map(Method::getDeclaringClass))
+                .contains(DummySuperclass.class);
+    }
+
+    @Test
+    void shouldShortCircuitFiltering() {
+        AtomicInteger tested = new AtomicInteger();
+
+        Members.fields(Dummy.class)
+                .where(field -> tested.incrementAndGet() > 0)
+                .first();
+
+        assertThat(tested.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamDeclaredConstructorsOnly() {
+        assertThat(Members.constructors(Dummy.class).list())
+                .hasSize(2);
+        assertThat(Members.constructors(Dummy.class).where(constructor -> constructor.getParameterCount() == 1).first().map(Constructor::getDeclaringClass))
+                .contains(Dummy.class);
+    }
+
+    @Test
+    void shouldScanManyTypesInParallel() {
+        Class<?>[] types = {Dummy.class, DummySuperclass.class, String.class, List.class, MembersTest.class};
+
+        List<String> sequential = names(Members.methods(types).list());
+        List<String> parallel = Members.methods(types).parallelStream().map(Member::getName).collect(Collectors.toList());
+
+        assertThat(parallel)
+                .isEqualTo(sequential);
+    }
+
+    private static List<String> names(List<? extends Member> members) {
+        return members.stream().map(Member::getName).collect(Collectors.toList());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    interface DummyInterface {
+        String CONSTANT = "constant";
+
+        @Marker
+        default void defaultMethod() {
+        }
+    }
+
+    static class DummySuperclass {
+        private String fieldSuperclass;
+
+        void superclassMethod() {
+        }
+    }
+
+    static class Dummy extends DummySuperclass implements DummyInterface {
+        private static int counter;
+        private String field;
+
+        Dummy() {
+        }
+
+        Dummy(String field) {
+            this.field = field;
+        }
+
+        @Marker
+        void method() {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MethodInvokerTest {
+
+    @Test
+    void shouldReturnSameInvokerForSameSignature() throws ReflectionException {
+        assertThat(MethodInvoker.method(Dummy.class, "twice", false, new Object[]{1}))
+                .isSameAs(MethodInvoker.method(Dummy.class, "twice", false, new Object[]{2}));
+    }
+
+    @Test
+    void shouldResolveSeparateInvokerPerArgumentTypes() throws ReflectionException {
+        assertThat(MethodInvoker.method(Dummy.class, "describe", false, new Object[]{List.of()}))
+                .isNotSameAs(MethodInvoker.method(Dummy.class, "describe", false, new Object[]{"value"}));
+    }
+
+    @Test
+    void shouldSeparateStaticAndInstanceMethodsOfSameName() throws ReflectionException {
+        assertThat(MethodInvoker.method(Dummy.class, "join", true, new Object[]{new String[0]}))
+                .isNotNull();
+
+        assertThrows(
+                ReflectionException.class,
+                () -> MethodInvoker.method(Dummy.class, "join", false, new Object[]{new String[0]})
+        );
+    }
+
+    @Test
+    void shouldInvokeWithPrimitiveArguments() throws ReflectionException {
+        MethodInvoker invoker = MethodInvoker.method(Dummy.class, "twice", false, new Object[]{1});
+
+        assertThat(invoker.invoke(new Dummy(), new Object[]{21}))
+                .isEqualTo(42L);
+    }
+
+    @Test
+    void shouldInvokeDefaultInterfaceMethod() throws ReflectionException {
+        MethodInvoker invoker = MethodInvoker.method(Dummy.class, "greeting", false, null);
+
+        assertThat(invoker.invoke(new Dummy(), null))
+                .isEqualTo("hello");
+    }
+
+    @Test
+    void shouldInvokeVarargsMethodWithArray() throws ReflectionException {
+        Object[] arguments = {new String[]{"a", "b"}};
+
+        assertThat(MethodInvoker.method(Dummy.class, "join", true, arguments).invoke(null, arguments))
+                .isEqualTo("a,b");
+    }
+
+    interface Greeter {
+        default String greeting() {
+            return "hello";
+        }
+    }
+
+    static class Dummy implements Greeter {
+        private long twice(int value) {
+            return value * 2L;
+        }
+
+        private String describe(Object value) {
+            return "object";
+        }
+
+        private String describe(List<?> value) {
+            return "list";
+        }
+
+        private static String join(String... values) {
+            return String.join(",", values);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreloadLauncherSessionListenerTest {
+
+    @Test
+    void shouldPreloadConfiguredClassesOnce() {
+        boolean enabled = Metrics.isEnabled();
+        String preload = System.getProperty(PreloadLauncherSessionListener.PRELOAD_PROPERTY);
+        Metrics.setEnabled(true);
+        Metrics.reset();
+
+        try {
+            System.setProperty(PreloadLauncherSessionListener.PRELOAD_PROPERTY, Dummy.class.getName() + ", " + String.class.getName());
+            new PreloadLauncherSessionListener().launcherSessionOpened(null);
+            long lookups = Metrics.get(Cache.ANNOTATION_METADATA).getLookupCount();
+
+            new PreloadLauncherSessionListener().launcherSessionOpened(null);
+
+            assertThat(lookups)
+                    .isGreaterThan(0L);
+            assertThat(Metrics.get(Cache.ANNOTATION_METADATA).getLookupCount())
+                    .isEqualTo(lookups);
+        } finally {
+            if (preload == null) {
+                System.clearProperty(PreloadLauncherSessionListener.PRELOAD_PROPERTY);
+            } else {
+                System.setProperty(PreloadLauncherSessionListener.PRELOAD_PROPERTY, preload);
+            }
+            Metrics.setEnabled(enabled);
+            Metrics.reset();
+        }
+    }
+
+    static class Dummy {
+        private String field;
+    }
+}
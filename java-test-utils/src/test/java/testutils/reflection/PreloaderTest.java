@@ -0,0 +1,145 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testutils.classpath.MetadataSnapshot;
+import testutils.classpath.fixtures.annotated.FirstAnnotated;
+import testutils.metrics.Cache;
+import testutils.metrics.Metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PreloaderTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void shouldThrowsExceptionWhenInstancePreloaderClass() {
+        Throwable exception = assertThrows(
+                InvocationTargetException.class, () -> {
+                    Constructor<Preloader> declaredConstructor = Preloader.class.getDeclaredConstructor();
+                    declaredConstructor.setAccessible(true);
+                    declaredConstructor.newInstance();
+                });
+
+        assertThat(exception.getCause())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo("Utility class");
+    }
+
+    @Test
+    void shouldResolveClassNames() throws ReflectionException {
+        assertThat(Preloader.resolve(classLoader(), Dummy.class.getName()))
+                .containsExactly(Dummy.class);
+    }
+
+    @Test
+    void shouldResolvePackagesWithoutInitializingClasses() throws ReflectionException {
+        List<Class<?>> classes = Preloader.resolve(classLoader(), "testutils.classpath.fixtures.annotated");
+
+        assertThat(classes)
+                .contains(FirstAnnotated.class);
+    }
+
+    @Test
+    void shouldIgnoreUnknownPackages() throws ReflectionException {
+        assertThat(Preloader.resolve(classLoader(), "testutils.unknown"))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldWarmClassesOnForkJoinPool() {
+        assertThat(Preloader.preload(ForkJoinPool.commonPool(), List.of(Dummy.class, DummyChild.class, String.class)))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotWarmFieldsDeclaredByJdkSuperclasses() {
+        Metrics.reset();
+        Metrics.setEnabled(true);
+        try {
+            assertThat(Preloader.warm(DummyList.class))
+                    .isTrue();
+            assertThat(Metrics.get(Cache.FIELD_HANDLES).getLookupCount())
+                    .isEqualTo(1);
+        } finally {
+            Metrics.setEnabled(false);
+            Metrics.reset();
+        }
+    }
+
+    @Test
+    void shouldResolveOnlyLoadableClassNames() {
+        assertThat(Preloader.resolveClasses(classLoader(), List.of(Dummy.class.getName(), "testutils.Unknown")))
+                .containsExactly(Dummy.class);
+    }
+
+    @Test
+    void shouldPreloadClassesRecordedInSnapshot() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(cacheDirectory.resolve("metadata.snapshot"));
+        snapshot.record(Dummy.class, new byte[0]);
+        snapshot.record(DummyChild.class, new byte[0]);
+        snapshot.save();
+
+        assertThat(Reflection.preloadSnapshot(ForkJoinPool.commonPool(), classLoader(), MetadataSnapshot.open(cacheDirectory.resolve("metadata.snapshot"))))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldPreloadSnapshotWithoutCreatingFieldHandles() throws IOException {
+        MetadataSnapshot snapshot = MetadataSnapshot.open(cacheDirectory.resolve("metadata.snapshot"));
+        snapshot.record(DummyChild.class, new byte[0]);
+        snapshot.save();
+
+        Metrics.reset();
+        Metrics.setEnabled(true);
+        try {
+            assertThat(Reflection.preloadSnapshot(ForkJoinPool.commonPool(), classLoader(), MetadataSnapshot.open(cacheDirectory.resolve("metadata.snapshot"))))
+                    .isEqualTo(1);
+            assertThat(Metrics.get(Cache.FIELD_HANDLES).getLookupCount())
+                    .isEqualTo(0);
+        } finally {
+            Metrics.setEnabled(false);
+            Metrics.reset();
+        }
+    }
+
+    @Test
+    void shouldPreloadThroughReflection() throws ReflectionException {
+        assertThat(Reflection.preload(Dummy.class.getName(), "testutils.classpath.fixtures.mixed"))
+                .isGreaterThan(1);
+        assertThat(Reflection.preload(Dummy.class))
+                .isEqualTo(1);
+    }
+
+    private static ClassLoader classLoader() {
+        return PreloaderTest.class.getClassLoader();
+    }
+
+    static class Dummy {
+        private String field;
+
+        void method() {
+        }
+    }
+
+    static class DummyChild extends Dummy {
+        private int childField;
+    }
+
+    static class DummyList extends ArrayList<String> {
+        private String name;
+    }
+}
@@ -0,0 +1,205 @@
+package testutils.reflection;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RandomPopulatorTest {
+
+    @Test
+    void shouldPopulateAllSupportedFieldTypes() throws ReflectionException {
+        Customer customer = RandomPopulator.seeded(1).next(Customer.class);
+
+        assertThat(customer.name)
+                .isNotNull();
+        assertThat(customer.id)
+                .isNotNull();
+        assertThat(customer.birthday)
+                .isNotNull();
+        assertThat(customer.status)
+                .isNotNull();
+        assertThat(customer.addresses)
+                .isNotEmpty();
+        assertThat(customer.addresses.get(0).zip)
+                .isNotNull();
+        assertThat(customer.tags)
+                .isNotEmpty();
+        assertThat(customer.scores)
+                .isNotEmpty();
+        assertThat(customer.codes.length)
+                .isGreaterThan(0);
+    }
+
+    @Test
+    void shouldBeReproducibleForTheSameSeed() throws ReflectionException {
+        List<Customer> first = RandomPopulator.seeded(42).list(Customer.class, 20);
+        List<Customer> second = RandomPopulator.seeded(42).list(Customer.class, 20);
+        List<Customer> other = RandomPopulator.seeded(43).list(Customer.class, 20);
+
+        assertThat(Reflection.deepEquals(first, second))
+                .isTrue();
+        assertThat(Reflection.deepEquals(first, other))
+                .isFalse();
+    }
+
+    @Test
+    void shouldGenerateTheSameListInParallel() throws ReflectionException {
+        List<Customer> sequential = RandomPopulator.seeded(7).list(Customer.class, 2000);
+        List<Customer> parallel = RandomPopulator.seeded(7).list(Customer.class, 2000, ForkJoinPool.commonPool());
+
+        assertThat(parallel)
+                .hasSize(2000);
+        assertThat(Reflection.deepDiff(sequential, parallel))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldHonourConstraintAnnotations() throws ReflectionException {
+        for (Constrained constrained : RandomPopulator.seeded(3).list(Constrained.class, 200)) {
+            assertThat(constrained.code.length())
+                    .isBetween(2, 4);
+            assertThat(constrained.quantity)
+                    .isBetween(1, 10);
+            assertThat(constrained.items)
+                    .hasSize(3);
+            assertThat(constrained.ignored)
+                    .isNull();
+        }
+    }
+
+    @Test
+    void shouldIgnoreAnnotationsOutsideValidationPackages() throws ReflectionException {
+        for (Lookalike lookalike : RandomPopulator.seeded(3).list(Lookalike.class, 50)) {
+            assertThat(lookalike.code.length())
+                    .isNotEqualTo(50);
+        }
+    }
+
+    @Test
+    void shouldStopRecursionAtMaxDepth() throws ReflectionException {
+        Node node = RandomPopulator.seeded(5).withMaxDepth(2).next(Node.class);
+
+        assertThat(node.next)
+                .isNotNull();
+        assertThat(node.next.next)
+                .isNotNull();
+        assertThat(node.next.next.next)
+                .isNull();
+    }
+
+    @Test
+    void shouldFillExistingInstance() throws ReflectionException {
+        Address address = new Address();
+
+        RandomPopulator.seeded(9).fill(address);
+
+        assertThat(address.zip)
+                .isNotNull();
+    }
+
+    @Test
+    void shouldGenerateValueTypes() throws ReflectionException {
+        RandomPopulator populator = RandomPopulator.seeded(11);
+
+        assertThat(populator.next(String.class))
+                .isNotEmpty();
+        assertThat(populator.next(UUID.class))
+                .isNotNull();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTypeCannotBeAllocated() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> RandomPopulator.seeded(1).next(Runnable.class)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Cannot allocate: java.lang.Runnable");
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> RandomPopulator.seeded(1).withMaxDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> RandomPopulator.seeded(1).withCollectionSize(3, 2));
+    }
+
+    enum Status {
+        ACTIVE, BLOCKED
+    }
+
+    static final class Local {
+
+        @Retention(RetentionPolicy.RUNTIME)
+        @interface Size {
+            int min() default 0;
+
+            int max() default Integer.MAX_VALUE;
+        }
+
+        @Retention(RetentionPolicy.RUNTIME)
+        @interface Null {
+        }
+    }
+
+    static class Address {
+        private String zip;
+    }
+
+    static class Customer {
+        private String name;
+        private UUID id;
+        private LocalDate birthday;
+        private Status status;
+        private int age;
+        private double balance;
+        private boolean active;
+        private List<Address> addresses;
+        private Set<String> tags;
+        private Map<String, Integer> scores;
+        private long[] codes;
+
+        Customer() {
+            throw new IllegalStateException("Expensive constructor");
+        }
+    }
+
+    static class Constrained {
+        @Size(min = 2, max = 4)
+        private String code;
+
+        @Min(1)
+        @Max(10)
+        private int quantity;
+
+        @Size(min = 3, max = 3)
+        private List<String> items;
+
+        @Null
+        private String ignored;
+    }
+
+    static class Lookalike {
+        @Local.Null
+        @Local.Size(min = 50, max = 50)
+        private String code;
+    }
+
+    static class Node {
+        private Node next;
+    }
+}
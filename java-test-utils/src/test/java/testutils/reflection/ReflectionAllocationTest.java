@@ -0,0 +1,91 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ReflectionAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+    private static final long MAX_ALLOCATED_BYTES = 1_024;
+
+    @Test
+    void shouldNotAllocateWhenReadingIntFields() throws ReflectionException {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Dummy dummy = new Dummy();
+        long sum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sum += Reflection.getIntFieldValue(dummy, "number");
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sum += Reflection.getIntFieldValue(dummy, "number");
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(sum)
+                .isEqualTo(2L * ITERATIONS * 7);
+        assertThat(allocated <= MAX_ALLOCATED_BYTES)
+                .isTrue();
+    }
+
+    @Test
+    void shouldNotAllocateWhenLookingUpMethodInvokers() throws ReflectionException {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Object[] noArguments = {};
+        Object[] oneArgument = {"value"};
+        Object[] twoArguments = {"value", null};
+        for (int i = 0; i < ITERATIONS; i++) {
+            lookUp(noArguments, oneArgument, twoArguments);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            lookUp(noArguments, oneArgument, twoArguments);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(allocated <= MAX_ALLOCATED_BYTES)
+                .isTrue();
+    }
+
+    private static void lookUp(Object[] noArguments, Object[] oneArgument, Object[] twoArguments) throws ReflectionException {
+        MethodInvoker.method(Dummy.class, "name", false, noArguments);
+        MethodInvoker.method(Dummy.class, "name", false, oneArgument);
+        MethodInvoker.method(Dummy.class, "name", false, twoArguments);
+        MethodInvoker.constructor(Dummy.class, noArguments);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threads : null;
+    }
+
+    static class Dummy {
+        private int number = 7;
+
+        private String name() {
+            return "name";
+        }
+
+        private String name(String prefix) {
+            return prefix;
+        }
+
+        private String name(String prefix, Object suffix) {
+            return prefix + suffix;
+        }
+    }
+}
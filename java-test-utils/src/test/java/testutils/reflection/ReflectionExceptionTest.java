@@ -24,4 +24,27 @@ class ReflectionExceptionTest {
                 .isSameAs(expectedCause);
     }
 
+    @Test
+    void shouldBuildMessageFromPrefixAndDetail() {
+        ReflectionException reflectionException = new ReflectionException("No such field: ", "field");
+
+        assertThat(reflectionException.getMessage())
+                .isEqualTo("No such field: field");
+        assertThat(reflectionException.toString())
+                .isEqualTo(ReflectionException.class.getName() + ": No such field: field");
+    }
+
+    @Test
+    void shouldNotFillStackTraceWhenStackless() {
+        ReflectionException.setStackless(true);
+        try {
+            assertThat(new ReflectionException("expectedMessage").getStackTrace().length)
+                    .isEqualTo(0);
+        } finally {
+            ReflectionException.setStackless(false);
+        }
+
+        assertThat(new ReflectionException("expectedMessage").getStackTrace().length > 0)
+                .isTrue();
+    }
 }
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -151,15 +153,503 @@ class ReflectionTest {
         assertThat(exception.getMessage()).isEqualTo("No such field: " + value);
     }
 
+    @Test
+    void shouldGetAndSetFieldWithAccessor() throws ReflectionException {
+        FieldAccessor<Dummy, String> accessor = Reflection.accessor(Dummy.class, FIELD, String.class);
+
+        accessor.set(dummy, value);
+
+        assertThat(accessor.get(dummy))
+                .isEqualTo(value);
+    }
+
+    @Test
+    void shouldGetFieldFromSuperclassWithAccessor() throws ReflectionException {
+        FieldAccessor<Dummy, String> accessor = Reflection.accessor(Dummy.class, FIELD_SUPERCLASS, String.class);
+
+        assertThat(accessor.get(dummy))
+                .isEqualTo("valueSuperclass");
+    }
+
+    @Test
+    void shouldGetAndSetStaticFieldWithAccessor() throws ReflectionException {
+        FieldAccessor<DummyStatic, String> accessor = Reflection.accessor(DummyStatic.class, "staticField", String.class);
+
+        accessor.set(null, value);
+
+        assertThat(accessor.get(null))
+                .isEqualTo(value);
+    }
+
+    @Test
+    void shouldThrowsExceptionInAccessorWhenTypeDoesNotMatch() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.accessor(Dummy.class, FIELD, Integer.class)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Field field is of type java.lang.String, not java.lang.Integer");
+    }
+
+    @Test
+    void shouldThrowsExceptionInAccessorWhenTypeIsSupertype() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.accessor(Dummy.class, FIELD, Object.class)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Field field is of type java.lang.String, not java.lang.Object");
+    }
+
+    @Test
+    void shouldAcceptPrimitiveAndBoxedTypesInAccessor() throws ReflectionException {
+        Reflection.accessor(Dummy.class, "intField", int.class).set(dummy, 10);
+
+        assertThat(Reflection.accessor(Dummy.class, "intField", Integer.class).get(dummy))
+                .isEqualTo(10);
+    }
+
+    @Test
+    void shouldThrowsExceptionInAccessorWhenFieldNotExits() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.accessor(Dummy.class, "not_field", String.class)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such field: not_field");
+    }
+
+    @Test
+    void shouldGetAndSetIntField() throws ReflectionException {
+        Reflection.setIntFieldValue(dummy, "intField", 10);
+
+        assertThat(Reflection.getIntFieldValue(dummy, "intField"))
+                .isEqualTo(10);
+    }
+
+    @Test
+    void shouldGetAndSetLongField() throws ReflectionException {
+        Reflection.setLongFieldValue(dummy, "longField", 10L);
+
+        assertThat(Reflection.getLongFieldValue(dummy, "longField"))
+                .isEqualTo(10L);
+    }
+
+    @Test
+    void shouldGetAndSetDoubleField() throws ReflectionException {
+        Reflection.setDoubleFieldValue(dummy, "doubleField", 10.5);
+
+        assertThat(Reflection.getDoubleFieldValue(dummy, "doubleField"))
+                .isEqualTo(10.5);
+    }
+
+    @Test
+    void shouldGetAndSetStaticPrimitiveFields() throws ReflectionException {
+        Reflection.setStaticIntFieldValue(DummyStatic.class, "staticIntField", 10);
+        Reflection.setStaticLongFieldValue(DummyStatic.class, "staticLongField", 20L);
+        Reflection.setStaticDoubleFieldValue(DummyStatic.class, "staticDoubleField", 30.5);
+
+        assertThat(Reflection.getStaticIntFieldValue(DummyStatic.class, "staticIntField"))
+                .isEqualTo(10);
+        assertThat(Reflection.getStaticLongFieldValue(DummyStatic.class, "staticLongField"))
+                .isEqualTo(20L);
+        assertThat(Reflection.getStaticDoubleFieldValue(DummyStatic.class, "staticDoubleField"))
+                .isEqualTo(30.5);
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenPrimitiveFieldTypeDoesNotMatch() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.getLongFieldValue(dummy, "intField")
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Field intField is of type int, not long");
+    }
+
+    @Test
+    void shouldGetAndSetWithPrimitiveAccessors() throws ReflectionException {
+        IntFieldAccessor<Dummy> intAccessor = Reflection.intAccessor(Dummy.class, "intField");
+        LongFieldAccessor<Dummy> longAccessor = Reflection.longAccessor(Dummy.class, "longField");
+        DoubleFieldAccessor<Dummy> doubleAccessor = Reflection.doubleAccessor(Dummy.class, "doubleField");
+
+        intAccessor.set(dummy, 1);
+        longAccessor.set(dummy, 2L);
+        doubleAccessor.set(dummy, 3.5);
+
+        assertThat(intAccessor.get(dummy))
+                .isEqualTo(1);
+        assertThat(longAccessor.get(dummy))
+                .isEqualTo(2L);
+        assertThat(doubleAccessor.get(dummy))
+                .isEqualTo(3.5);
+    }
+
+    @Test
+    void shouldThrowsExceptionInPrimitiveAccessorWhenTypeDoesNotMatch() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.doubleAccessor(Dummy.class, FIELD)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Field field is of type java.lang.String, not double");
+    }
+
+    @Test
+    void shouldInvokePrivateMethod() throws ReflectionException {
+        assertThat(Reflection.invokeMethod(dummy, "concat", value, 2))
+                .isEqualTo("value" + value + 2);
+    }
+
+    @Test
+    void shouldInvokeMethodFromSuperclass() throws ReflectionException {
+        assertThat(Reflection.invokeMethod(dummy, "superclassMethod"))
+                .isEqualTo("valueSuperclass");
+    }
+
+    @Test
+    void shouldInvokeMostSpecificOverload() throws ReflectionException {
+        assertThat(Reflection.invokeMethod(dummy, "overloaded", value))
+                .isEqualTo("string");
+        assertThat(Reflection.invokeMethod(dummy, "overloaded", 1))
+                .isEqualTo("object");
+        assertThat(Reflection.invokeMethod(dummy, "overloaded", (Object) null))
+                .isEqualTo("string");
+    }
+
+    @Test
+    void shouldInvokeVoidMethod() throws ReflectionException {
+        assertThat(Reflection.invokeMethod(dummy, "increment", 5))
+                .isNull();
+        assertThat(Reflection.getIntFieldValue(dummy, "intField"))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void shouldInvokeStaticMethod() throws ReflectionException {
+        assertThat(Reflection.invokeStaticMethod(DummyStatic.class, "staticMethod", value))
+                .isEqualTo(value + "_static");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenMethodNotExists() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.invokeMethod(dummy, "concat", value)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such method: concat(java.lang.String)");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenStaticMethodIsInvokedOnInstance() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.invokeStaticMethod(Dummy.class, "concat", value, 2)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such method: concat(java.lang.String, java.lang.Integer)");
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenMethodIsAmbiguous() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.invokeMethod(dummy, "ambiguous", null, null)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Ambiguous method: ambiguous(null, null)");
+    }
+
+    @Test
+    void shouldThrowsExceptionInInvokeMethodWhenObjectIsNull() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.invokeMethod(null, "concat")
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such method: concat");
+    }
+
+    @Test
+    void shouldUnwrapExceptionThrownByInvokedMethod() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.invokeMethod(dummy, "fail", value)
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo(value);
+    }
+
+    @Test
+    void shouldWrapErrorThrownByInvokedMethod() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.invokeMethod(dummy, "failAssertion", value)
+        );
+
+        assertThat(exception.getCause())
+                .isInstanceOf(AssertionError.class);
+        assertThat(exception.getCause().getMessage())
+                .isEqualTo(value);
+    }
+
+    @Test
+    void shouldCreateNewInstanceWithPrivateConstructor() throws ReflectionException {
+        assertThat(Reflection.newInstance(DummyConstructed.class).value)
+                .isEqualTo("default");
+        assertThat(Reflection.newInstance(DummyConstructed.class, value).value)
+                .isEqualTo(value);
+    }
+
+    @Test
+    void shouldThrowsExceptionWhenConstructorNotExists() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.newInstance(DummyConstructed.class, 1)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such constructor: " + DummyConstructed.class.getName() + "(java.lang.Integer)");
+    }
+
+    @Test
+    void shouldCheckIfFieldExists() {
+        assertThat(Reflection.hasField(Dummy.class, FIELD))
+                .isTrue();
+        assertThat(Reflection.hasField(Dummy.class, FIELD_SUPERCLASS))
+                .isTrue();
+        assertThat(Reflection.hasField(Dummy.class, "no_field"))
+                .isFalse();
+        assertThat(Reflection.hasField(null, FIELD))
+                .isFalse();
+    }
+
+    @Test
+    void shouldFindField() {
+        assertThat(Reflection.findField(Dummy.class, FIELD).map(Field::getName))
+                .contains(FIELD);
+        assertThat(Reflection.findField(Dummy.class, "no_field"))
+                .isEmpty();
+        assertThat(Reflection.findField(Dummy.class, null))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldTryToGetFieldValue() {
+        assertThat(Reflection.tryGetFieldValue(dummy, FIELD))
+                .contains("value");
+        assertThat(Reflection.tryGetFieldValue(dummy, "no_field"))
+                .isEmpty();
+        assertThat(Reflection.tryGetFieldValue(null, FIELD))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldTryToGetStaticFieldValue() {
+        assertThat(Reflection.tryGetStaticFieldValue(DummyStatic.class, "staticIntField"))
+                .isPresent();
+        assertThat(Reflection.tryGetStaticFieldValue(DummyStatic.class, "no_field"))
+                .isEmpty();
+        assertThat(Reflection.tryGetStaticFieldValue(Dummy.class, FIELD))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldRestoreObjectSnapshot() throws ReflectionException {
+        Reflection.setIntFieldValue(dummy, "intField", 1);
+        Snapshot snapshot = Reflection.snapshot(dummy);
+
+        Reflection.setIntFieldValue(dummy, "intField", 2);
+        Reflection.setFieldValue(dummy, FIELD, "changed");
+        Reflection.setFieldValue(dummy, FIELD_SUPERCLASS, "changedSuperclass");
+        Reflection.restore(snapshot);
+
+        assertThat(Reflection.getIntFieldValue(dummy, "intField"))
+                .isEqualTo(1);
+        assertThat(Reflection.getFieldValue(dummy, FIELD))
+                .isEqualTo("value");
+        assertThat(Reflection.getFieldValue(dummy, FIELD_SUPERCLASS))
+                .isEqualTo("valueSuperclass");
+        assertThat(snapshot.isStatic())
+                .isFalse();
+    }
+
+    @Test
+    void shouldRestoreStaticSnapshot() throws ReflectionException {
+        Snapshot snapshot = Reflection.snapshotStatics(DummySnapshotStatic.class);
+
+        Reflection.setStaticFieldValue(DummySnapshotStatic.class, "staticField", "changed");
+        Reflection.setStaticIntFieldValue(DummySnapshotStatic.class, "staticIntField", 5);
+        Reflection.restore(snapshot);
+
+        assertThat(Reflection.getStaticFieldValue(DummySnapshotStatic.class, "staticField"))
+                .isEqualTo("value");
+        assertThat(Reflection.getStaticIntFieldValue(DummySnapshotStatic.class, "staticIntField"))
+                .isEqualTo(1);
+        assertThat(snapshot.isStatic())
+                .isTrue();
+        assertThat(snapshot.getFieldCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSnapshotIsNull() {
+        Throwable objectException = assertThrows(ReflectionException.class, () -> Reflection.snapshot(null));
+        Throwable classException = assertThrows(ReflectionException.class, () -> Reflection.snapshotStatics(null));
+        Throwable restoreException = assertThrows(ReflectionException.class, () -> Reflection.restore(null));
+
+        assertThat(objectException.getMessage())
+                .isEqualTo("Null object");
+        assertThat(classException.getMessage())
+                .isEqualTo("Null class");
+        assertThat(restoreException.getMessage())
+                .isEqualTo("Null snapshot");
+    }
+
+    @Test
+    void shouldCompareObjectsDeeply() throws ReflectionException {
+        Dummy other = new Dummy();
+
+        assertThat(Reflection.deepEquals(dummy, other))
+                .isTrue();
+
+        Reflection.setIntFieldValue(other, "intField", 10);
+
+        assertThat(Reflection.deepEquals(dummy, other))
+                .isFalse();
+        assertThat(Reflection.deepDiff(dummy, other).get(0).toString())
+                .isEqualTo("intField: expected <0> but was <10>");
+    }
+
+    @Test
+    void shouldGetAndSetFieldPath() throws ReflectionException {
+        Reflection.setPath(dummy, "fieldSuperclass", "changed");
+
+        assertThat(Reflection.getPath(dummy, "fieldSuperclass"))
+                .isEqualTo("changed");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPathIsNull() {
+        Throwable exception = assertThrows(ReflectionException.class, () -> Reflection.getPath(dummy, null));
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Null path");
+    }
+
+    @Test
+    void shouldAllocateWithoutConstructor() throws ReflectionException {
+        DummyConstructed allocated = Reflection.allocate(DummyConstructed.class);
+
+        assertThat(Reflection.getFieldValue(allocated, "value"))
+                .isNull();
+    }
+
+    @Test
+    void shouldAllocateAndFillFields() throws ReflectionException {
+        DummyConstructed allocated = Reflection.allocate(DummyConstructed.class, Map.of("value", "filled"));
+
+        assertThat(Reflection.getFieldValue(allocated, "value"))
+                .isEqualTo("filled");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenAllocatedFieldDoesNotExist() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.allocate(DummyConstructed.class, Map.of("no_field", "value"))
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("No such field: no_field");
+    }
+
+    static class DummySnapshotStatic {
+        private static final String CONSTANT = "constant";
+        private static String staticField = "value";
+        private static int staticIntField = 1;
+    }
+
     static class DummyStatic {
         private static String staticField = "value";
+        private static int staticIntField;
+        private static long staticLongField;
+        private static double staticDoubleField;
+
+        private static String staticMethod(String prefix) {
+            return prefix + "_static";
+        }
+    }
+
+    static class DummyConstructed {
+        private final String value;
+
+        private DummyConstructed() {
+            this("default");
+        }
+
+        private DummyConstructed(String value) {
+            this.value = value;
+        }
     }
 
     class DummySuperclass {
         private final String fieldSuperclass = "valueSuperclass";
+
+        private String superclassMethod() {
+            return fieldSuperclass;
+        }
     }
 
     class Dummy extends DummySuperclass {
         private final String field = "value";
+        private int intField;
+        private long longField;
+        private double doubleField;
+
+        private String concat(String suffix, int times) {
+            return field + suffix + times;
+        }
+
+        private String overloaded(Object value) {
+            return "object";
+        }
+
+        private String overloaded(String value) {
+            return "string";
+        }
+
+        private String ambiguous(String first, Object second) {
+            return "first";
+        }
+
+        private String ambiguous(Object first, String second) {
+            return "second";
+        }
+
+        private void increment(int amount) {
+            intField += amount;
+        }
+
+        private void fail(String message) {
+            throw new IllegalArgumentException(message);
+        }
+
+        private void failAssertion(String message) {
+            throw new AssertionError(message);
+        }
     }
 }
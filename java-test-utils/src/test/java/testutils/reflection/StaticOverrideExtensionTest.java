@@ -0,0 +1,72 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@OverrideStatic(type = StaticOverrideExtensionTest.Dummy.class, field = "staticField", value = "class")
+class StaticOverrideExtensionTest {
+
+    @Test
+    void shouldOverrideFromClassAnnotation() {
+        assertThat(Dummy.staticField)
+                .isEqualTo("class");
+    }
+
+    @Test
+    @OverrideStatic(type = Dummy.class, field = "staticField", value = "method")
+    @OverrideStatic(type = Dummy.class, field = "staticIntField", value = "10")
+    @OverrideStatic(type = Dummy.class, field = "staticMode", value = "ON")
+    void shouldOverrideFromMethodAnnotations() {
+        assertThat(Dummy.staticField)
+                .isEqualTo("method");
+        assertThat(Dummy.staticIntField)
+                .isEqualTo(10);
+        assertThat(Dummy.staticMode)
+                .isEqualTo(Mode.ON);
+    }
+
+    @Test
+    void shouldResolveStaticOverridesParameter(StaticOverrides overrides) throws ReflectionException {
+        overrides.set(Dummy.class, "staticIntField", 5);
+
+        assertThat(Dummy.staticIntField)
+                .isEqualTo(5);
+    }
+
+    @Test
+    void shouldConvertAnnotationValues() throws ReflectionException {
+        assertThat(StaticOverrideExtension.convert("1", long.class))
+                .isEqualTo(1L);
+        assertThat(StaticOverrideExtension.convert("true", Boolean.class))
+                .isEqualTo(true);
+        assertThat(StaticOverrideExtension.convert("c", char.class))
+                .isEqualTo('c');
+        assertThat(StaticOverrideExtension.convert("text", CharSequence.class))
+                .isEqualTo("text");
+        assertThat(StaticOverrideExtension.convert("OFF", Mode.class))
+                .isEqualTo(Mode.OFF);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenValueCannotBeConverted() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> StaticOverrideExtension.convert("value", Mode.class)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Cannot convert value to testutils.reflection.StaticOverrideExtensionTest$Mode");
+    }
+
+    enum Mode {
+        ON, OFF
+    }
+
+    static class Dummy {
+        private static String staticField = "value";
+        private static int staticIntField;
+        private static Mode staticMode = Mode.OFF;
+    }
+}
@@ -0,0 +1,177 @@
+package testutils.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StaticOverrideTest {
+
+    @Test
+    void shouldRestoreStaticFieldWhenClosed() throws ReflectionException {
+        try (StaticOverride override = Reflection.overrideStatic(Dummy.class, "staticField", "overridden")) {
+            assertThat(Dummy.staticField)
+                    .isEqualTo("overridden");
+            assertThat(override.getPreviousValue())
+                    .isEqualTo("value");
+        }
+
+        assertThat(Dummy.staticField)
+                .isEqualTo("value");
+    }
+
+    @Test
+    void shouldRestoreNestedOverridesInOrder() throws ReflectionException {
+        try (StaticOverride outer = Reflection.overrideStatic(Dummy.class, "staticIntField", 1)) {
+            try (StaticOverride inner = Reflection.overrideStatic(Dummy.class, "staticIntField", 2)) {
+                assertThat(Dummy.staticIntField)
+                        .isEqualTo(2);
+            }
+
+            assertThat(Dummy.staticIntField)
+                    .isEqualTo(1);
+        }
+
+        assertThat(Dummy.staticIntField)
+                .isEqualTo(0);
+    }
+
+    @Test
+    void shouldIgnoreSecondClose() throws ReflectionException {
+        StaticOverride override = Reflection.overrideStatic(Dummy.class, "staticField", "overridden");
+        override.close();
+        Dummy.staticField = "changed";
+        override.close();
+
+        assertThat(Dummy.staticField)
+                .isEqualTo("changed");
+        Dummy.staticField = "value";
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFieldIsNotStatic() {
+        Throwable exception = assertThrows(
+                ReflectionException.class,
+                () -> Reflection.overrideStatic(Dummy.class, "field", "overridden")
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("Field field is not static");
+    }
+
+    @Test
+    void shouldSerializeOverridesOfTheSameField() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+
+        try {
+            Future<Object> contender;
+            try (StaticOverride override = Reflection.overrideStatic(Dummy.class, "staticField", "first")) {
+                contender = executor.submit(() -> {
+                    started.countDown();
+                    try (StaticOverride other = Reflection.overrideStatic(Dummy.class, "staticField", "second")) {
+                        return other.getPreviousValue();
+                    }
+                });
+
+                started.await();
+                Thread.sleep(50);
+                assertThat(contender.isDone())
+                        .isFalse();
+            }
+
+            assertThat(contender.get(5, TimeUnit.SECONDS))
+                    .isEqualTo("value");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldOverrideDifferentFieldsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (StaticOverride override = Reflection.overrideStatic(Dummy.class, "staticField", "first")) {
+            Future<Object> other = executor.submit(() -> {
+                try (StaticOverride second = Reflection.overrideStatic(Dummy.class, "otherStaticField", "second")) {
+                    return second.getPreviousValue();
+                }
+            });
+
+            assertThat(other.get(5, TimeUnit.SECONDS))
+                    .isEqualTo("value");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldWaitForFieldTakenOutOfOrder() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Future<Object> holder = executor.submit(() -> {
+                try (StaticOverride held = Reflection.overrideStatic(Dummy.class, "staticField", "held")) {
+                    locked.countDown();
+                    release.await();
+                    return held.getPreviousValue();
+                }
+            });
+            locked.await();
+
+            try (StaticOverride other = Reflection.overrideStatic(Dummy.class, "otherStaticField", "other")) {
+                release.countDown();
+                try (StaticOverride waiting = Reflection.overrideStatic(Dummy.class, "staticField", "waiting")) {
+                    assertThat(waiting.getPreviousValue())
+                            .isEqualTo("value");
+                }
+            }
+
+            assertThat(holder.get(5, TimeUnit.SECONDS))
+                    .isEqualTo("value");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectRestoreFromAnotherThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (StaticOverride override = Reflection.overrideStatic(Dummy.class, "staticField", "overridden")) {
+            ExecutionException exception = assertThrows(
+                    ExecutionException.class,
+                    () -> executor.submit(() -> {
+                        override.close();
+                        return null;
+                    }).get(5, TimeUnit.SECONDS)
+            );
+
+            assertThat(exception.getCause())
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(Dummy.staticField)
+                    .isEqualTo("overridden");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(Dummy.staticField)
+                .isEqualTo("value");
+    }
+
+    static class Dummy {
+        private static String staticField = "value";
+        private static String otherStaticField = "value";
+        private static int staticIntField;
+        private String field;
+    }
+}